@@ -0,0 +1,111 @@
+package com.taskify.backend.benchmarks;
+
+import com.taskify.backend.services.shared.EmailTemplateRenderer;
+import org.openjdk.jmh.annotations.*;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EmailTemplateRenderer as the application runs it, i.e. with the parsed-template cache on:
+ * <ul>
+ *     <li>firstRender: the first message of a template on a fresh engine, with and without {@code warmUp()}</li>
+ *     <li>render vs engineProcess: steady-state throughput of the renderer against a bare
+ *     {@code TemplateEngine.process}, i.e. what the stats wrapper costs per message</li>
+ * </ul>
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailTemplateRenderBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Steady {
+        @Param({"assigned-task", "assigned-document", "invite-member", "verify-email", "reset-password"})
+        public String template;
+
+        private TemplateEngine engine;
+        private EmailTemplateRenderer renderer;
+
+        @Setup
+        public void setUp() {
+            engine = newEngine();
+            renderer = new EmailTemplateRenderer(engine);
+            renderer.warmUp();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cold {
+        @Param({"false", "true"})
+        public boolean warmedUp;
+
+        private EmailTemplateRenderer renderer;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            renderer = new EmailTemplateRenderer(newEngine());
+            if (warmedUp) {
+                renderer.warmUp();
+            }
+        }
+    }
+
+    private static final Map<String, Object> VARIABLES = new HashMap<>();
+
+    static {
+        VARIABLES.put("assignee", "someone@example.com");
+        VARIABLES.put("projectAdminName", "Project Admin");
+        VARIABLES.put("projectName", "Taskify");
+        VARIABLES.put("documentName", "Release plan");
+        VARIABLES.put("inviteSenderName", "Project Admin");
+        VARIABLES.put("name", "Someone");
+        VARIABLES.put("fullName", "Someone Else");
+        VARIABLES.put("link", "http://localhost:5505/verify?token=abc.def.ghi");
+        VARIABLES.put("verificationLink", "http://localhost:5505/verify?token=abc.def.ghi");
+        VARIABLES.put("resetPasswordLink", "http://localhost:5505/reset?token=abc.def.ghi");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 50)
+    public String firstRender(Cold cold) {
+        return cold.renderer.render("assigned-task", VARIABLES);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String render(Steady steady) {
+        return steady.renderer.render(steady.template, VARIABLES);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String engineProcess(Steady steady) {
+        return steady.engine.process(steady.template, new Context(null, VARIABLES));
+    }
+
+    // Same resolution as Spring Boot's default (classpath:/templates/<name>.html) and spring.thymeleaf.cache=true
+    private static TemplateEngine newEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+}
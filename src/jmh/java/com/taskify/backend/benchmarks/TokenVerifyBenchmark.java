@@ -0,0 +1,55 @@
+package com.taskify.backend.benchmarks;
+
+import com.taskify.backend.services.shared.TokenService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of verifying one access token: the old per-call key derivation and parser build, the shared parser, and
+ * the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenVerifyBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+    private static final long THIRTY_DAYS_MS = 30L * 24 * 60 * 60 * 1000;
+
+    private TokenService uncachedService;
+    private TokenService cachedService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedService = new TokenService(SECRET, false, 1);
+        cachedService = new TokenService(SECRET, true, 10_000);
+        token = uncachedService.signToken(Map.of("id", "65a1b2c3d4e5f60718293a4b"), THIRTY_DAYS_MS);
+    }
+
+    @Benchmark
+    public Claims perCallKeyAndParser() {
+        // What verifyToken did before: derive the key and build a parser on every call
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return uncachedService.verifyToken(token);
+    }
+
+    @Benchmark
+    public Claims verifiedTokenCache() {
+        return cachedService.verifyToken(token);
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskify.backend.constants;
+
+public class NotificationEnums {
+
+    public enum EmailStatus {
+        PENDING,
+        SENDING,
+        SENT,
+        FAILED
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskify.backend.constants;
+
+public class ProjectEnums {
+
+    public enum CleanupStatus {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
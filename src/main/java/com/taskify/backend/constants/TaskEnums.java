@@ -14,4 +14,11 @@ public class TaskEnums {
         UNDER_REVIEW,
         COMPLETED
     }
+
+    public enum TaskBulkAction {
+        CHANGE_STATUS,
+        ASSIGN_MEMBER,
+        REMOVE_ASSIGNED_MEMBER,
+        DELETE
+    }
 }
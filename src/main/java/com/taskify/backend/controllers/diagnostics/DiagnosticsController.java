@@ -0,0 +1,69 @@
+package com.taskify.backend.controllers.diagnostics;
+
+import com.taskify.backend.models.auth.User;
+import com.taskify.backend.models.auth.UserRoles;
+import com.taskify.backend.services.auth.PrincipalCache;
+import com.taskify.backend.services.project.MembershipCache;
+import com.taskify.backend.services.project.ProjectLabelCache;
+import com.taskify.backend.services.shared.EmailTemplateRenderer;
+import com.taskify.backend.services.shared.IndexManager;
+import com.taskify.backend.services.shared.TokenService;
+import com.taskify.backend.utils.ApiException;
+import com.taskify.backend.utils.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.*;
+
+@RestController
+@RequestMapping("/api/v1/diagnostics")
+@RequiredArgsConstructor
+public class DiagnosticsController {
+
+    private final PrincipalCache principalCache;
+    private final TokenService tokenService;
+    private final EmailTemplateRenderer emailTemplateRenderer;
+    private final IndexManager indexManager;
+    private final ProjectLabelCache projectLabelCache;
+    private final MembershipCache membershipCache;
+
+    @GetMapping("/caches")
+    public ApiResponse<Map<String, Object>> getCacheStats(HttpServletRequest httpRequest) {
+        requireAdmin(httpRequest);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("principals", principalCache.stats());
+        response.put("verifiedTokens", tokenService.verifiedTokenStats());
+        response.put("projectLabels", projectLabelCache.stats());
+        response.put("memberships", membershipCache.stats());
+        response.put("emailTemplates", emailTemplateRenderer.stats());
+        return ApiResponse.success(response, "Cache statistics retrieved successfully", HttpStatus.OK.value());
+    }
+
+    @GetMapping("/indexes")
+    public ApiResponse<Map<String, Object>> explainIndexes(HttpServletRequest httpRequest) {
+        requireAdmin(httpRequest);
+
+        List<Map<String, Object>> queries = indexManager.explainQueryShapes();
+        List<Object> collectionScans = new ArrayList<>();
+        for (Map<String, Object> query : queries) {
+            if (Boolean.TRUE.equals(query.get("collectionScan"))) {
+                collectionScans.add(query.get("name"));
+            }
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("collectionScans", collectionScans);
+        response.put("queries", queries);
+        return ApiResponse.success(response, "Query plans retrieved successfully", HttpStatus.OK.value());
+    }
+
+    private static void requireAdmin(HttpServletRequest httpRequest) {
+        User user = (User) httpRequest.getAttribute("user");
+        if (user == null || user.getRole() != UserRoles.ADMIN) {
+            throw new ApiException("You are not allowed to view diagnostics", HttpStatus.FORBIDDEN.value());
+        }
+    }
+}
@@ -57,6 +57,16 @@ public class ProjectController {
         return ApiResponse.success(response, "Project deleted successfully", HttpStatus.OK.value());
     }
 
+    @GetMapping("/getProjectCleanup")
+    public ApiResponse<Map<String, Object>> getProjectCleanup(
+            HttpServletRequest request,
+            @Valid @ModelAttribute ProjectIdQueryValidator query
+    ) {
+        User user = (User) request.getAttribute("user");
+        Map<String, Object> response = projectService.getProjectCleanup(user, query);
+        return ApiResponse.success(response, "Project cleanup status fetched", HttpStatus.OK.value());
+    }
+
     @GetMapping("/getProjects")
     public ApiResponse<Map<String,Object>> getProjects(HttpServletRequest request){
         User user = (User) request.getAttribute("user");
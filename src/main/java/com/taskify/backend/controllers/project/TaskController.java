@@ -1,15 +1,22 @@
 package com.taskify.backend.controllers.project;
 
 import com.taskify.backend.models.auth.User;
+import com.taskify.backend.services.project.TaskExportService;
 import com.taskify.backend.services.project.TaskService;
 import com.taskify.backend.utils.ApiResponse;
 import com.taskify.backend.validators.project.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 
@@ -19,6 +26,7 @@ import java.util.*;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
 
     @PostMapping("/createTask")
     public ApiResponse<Map<String,Object>> createTask(
@@ -50,6 +58,16 @@ public class TaskController {
         return ApiResponse.success(response, "Task retrieved successfully", HttpStatus.OK.value());
     }
 
+    @GetMapping("/getTaskComments")
+    public ApiResponse<Map<String,Object>> getTaskComments(
+            HttpServletRequest httpRequest,
+            @Valid @ModelAttribute GetTaskCommentsValidator query
+    ){
+        User user = (User) httpRequest.getAttribute("user");
+        Map<String,Object> response = taskService.getTaskComments(user,query);
+        return ApiResponse.success(response, "Task comments retrieved successfully", HttpStatus.OK.value());
+    }
+
     @GetMapping("/getTasks")
     public ApiResponse<Map<String,Object>> getTasks(
             HttpServletRequest httpRequest,
@@ -60,6 +78,21 @@ public class TaskController {
         return ApiResponse.success(response, "Tasks retrieved successfully", HttpStatus.OK.value());
     }
 
+    @GetMapping("/exportTasks")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            HttpServletRequest httpRequest,
+            @Valid @ModelAttribute ExportTasksValidator query
+    ){
+        User user = (User) httpRequest.getAttribute("user");
+        StreamingResponseBody body = taskExportService.exportTasks(user, query);
+        boolean csv = "csv".equals(query.getFormat());
+        String filename = "tasks-" + query.getProjectId() + (csv ? ".csv" : ".ndjson");
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     @PatchMapping("/changeStatus")
     public ApiResponse<Map<String,Object>> changeStatus(
             HttpServletRequest httpRequest,
@@ -100,6 +133,16 @@ public class TaskController {
         return ApiResponse.success(response, "Get assigned tasks successfully", HttpStatus.OK.value());
     }
 
+    @GetMapping("/getCompletionHistory")
+    public ApiResponse<List<Map<String, Object>>> getCompletionHistory(
+            HttpServletRequest httpRequest,
+            @Valid @ModelAttribute GetCompletionHistoryValidator query
+    ){
+        User user =  (User) httpRequest.getAttribute("user");
+        List<Map<String, Object>> response = taskService.getCompletionHistory(user,query);
+        return ApiResponse.success(response, "Get completion history successfully", HttpStatus.OK.value());
+    }
+
     @PostMapping("/assignMember")
     public ApiResponse<Map<String,Object>> assignMember(
             HttpServletRequest httpRequest,
@@ -130,6 +173,16 @@ public class TaskController {
         return ApiResponse.success(response, "Assigned member removed successfully", HttpStatus.OK.value());
     }
 
+    @PostMapping("/bulkUpdateTasks")
+    public ApiResponse<Map<String,Object>> bulkUpdateTasks(
+            HttpServletRequest httpRequest,
+            @Valid @RequestBody BulkTaskOperationsValidator body
+    ){
+        User user = (User) httpRequest.getAttribute("user");
+        Map<String,Object> response = taskService.bulkUpdateTasks(user,body);
+        return ApiResponse.success(response, "Bulk task operations applied successfully", HttpStatus.OK.value());
+    }
+
     @PostMapping("/addComment")
     public ApiResponse<Map<String,Object>> addComment(
             HttpServletRequest httpRequest,
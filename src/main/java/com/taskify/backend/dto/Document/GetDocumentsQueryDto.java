@@ -29,4 +29,7 @@ public class GetDocumentsQueryDto {
     private Integer limit = 10;
     
     private Integer page = 1;
+
+    // null = offset paging; "" = first keyset page; otherwise an opaque cursor from nextCursor
+    private String cursor;
 }
\ No newline at end of file
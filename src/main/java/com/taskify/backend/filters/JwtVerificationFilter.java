@@ -1,7 +1,7 @@
 package com.taskify.backend.filters;
 
 import com.taskify.backend.models.auth.User;
-import com.taskify.backend.repository.auth.UserRepository;
+import com.taskify.backend.services.auth.PrincipalCache;
 import com.taskify.backend.services.shared.TokenService;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.*;
@@ -22,7 +22,7 @@ public class JwtVerificationFilter implements Filter {
     private TokenService tokenService;
 
     @Autowired
-    private UserRepository userRepository;
+    private PrincipalCache principalCache;
 
     private static final Set<String> PUBLIC_PATHS = Set.of(
             "/api/v1/auth/login",
@@ -85,7 +85,7 @@ public class JwtVerificationFilter implements Filter {
             }
 
             String userId = String.valueOf(userMap.get("id"));
-            Optional<User> userOpt = userRepository.findById(userId);
+            Optional<User> userOpt = principalCache.findById(userId);
             if (userOpt.isEmpty()) {
                 sendError(httpResponse, "Invalid token: user not found");
                 return;
@@ -0,0 +1,35 @@
+package com.taskify.backend.models.project;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Materialized dashboard counters of one member, keyed by member id. Maintained incrementally by
+ * TaskStatsService and rebuilt from the tasks collection to repair drift.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "member_task_stats")
+public class MemberTaskStats {
+
+    @Id
+    private String id;
+
+    private String projectId;
+
+    // Live tasks assigned to the member, by TaskStatus name
+    @Builder.Default
+    private Map<String, Long> assigned = new HashMap<>();
+
+    // Live tasks created by the member
+    private long created;
+
+    private Instant updatedAt;
+}
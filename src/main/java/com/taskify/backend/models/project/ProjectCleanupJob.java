@@ -0,0 +1,44 @@
+package com.taskify.backend.models.project;
+
+import com.taskify.backend.constants.ProjectEnums.CleanupStatus;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "project_cleanup_jobs")
+public class ProjectCleanupJob {
+
+    @Id
+    private String id;
+
+    private String projectId;
+    private String userId;
+
+    @Builder.Default
+    private CleanupStatus status = CleanupStatus.PENDING;
+
+    private String currentStep;
+
+    // Documents touched per finished step, in execution order
+    @Builder.Default
+    private Map<String, Long> progress = new LinkedHashMap<>();
+
+    @Builder.Default
+    private int attempts = 0;
+
+    private String lastError;
+
+    @Builder.Default
+    private Instant createdAt = Instant.now();
+
+    private Instant updatedAt;
+    private Instant completedAt;
+}
@@ -0,0 +1,35 @@
+package com.taskify.backend.models.project;
+
+import com.taskify.backend.constants.CommentEnums.CommentType;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * A system-generated event on a task (status change, edit, assignment). Append-only and kept out of the task
+ * document; the task timeline merges these with the user comments by createdAt.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "task_activity")
+public class TaskActivity {
+
+    @Id
+    private String id;
+
+    private String taskId;
+    private String projectId;
+
+    // Member who triggered the event
+    private String memberId;
+
+    private CommentType type;
+    private String content;
+
+    @Builder.Default
+    private Instant createdAt = Instant.now();
+}
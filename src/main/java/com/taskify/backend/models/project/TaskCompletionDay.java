@@ -0,0 +1,34 @@
+package com.taskify.backend.models.project;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Number of live tasks completed on one day, per assignee and for the whole project (memberId "*").
+ * The id is derived from (projectId, memberId, day) so concurrent upserts always hit the same document.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "task_completion_daily")
+public class TaskCompletionDay {
+
+    public static final String PROJECT_TOTAL = "*";
+
+    @Id
+    private String id;
+
+    private String projectId;
+    private String memberId;
+
+    // ISO date, yyyy-MM-dd
+    private String day;
+
+    private long count;
+
+    public static String idOf(String projectId, String memberId, String day) {
+        return projectId + ":" + memberId + ":" + day;
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskify.backend.models.shared;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "counters")
+public class Counter {
+
+    // Sequence name, e.g. "taskNumber:<projectId>"
+    @Id
+    private String id;
+
+    private long seq;
+}
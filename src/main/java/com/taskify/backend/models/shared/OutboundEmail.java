@@ -0,0 +1,49 @@
+package com.taskify.backend.models.shared;
+
+import com.taskify.backend.constants.NotificationEnums.EmailStatus;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "email_outbox")
+public class OutboundEmail {
+
+    @Id
+    private String id;
+
+    private String to;
+    private String subject;
+
+    // Rendered by the delivery worker, not on the request thread
+    private String template;
+
+    @Builder.Default
+    private Map<String, Object> variables = new HashMap<>();
+
+    @Builder.Default
+    private EmailStatus status = EmailStatus.PENDING;
+
+    @Builder.Default
+    private int attempts = 0;
+
+    @Builder.Default
+    private Instant nextAttemptAt = Instant.now();
+
+    // A SENDING entry whose lock has passed belongs to a worker that died and is picked up again
+    private Instant lockedUntil;
+
+    private String lastError;
+
+    @Builder.Default
+    private Instant createdAt = Instant.now();
+
+    private Instant sentAt;
+}
@@ -2,10 +2,21 @@ package com.taskify.backend.repository.project;
 
 
 import com.taskify.backend.models.project.Label;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.regex.Pattern;
+
 @Repository
 public interface LabelRepository extends MongoRepository<Label, String> {
-}
+    Page<Label> findByProjectId(String projectId, Pageable pageable);
 
+    List<Label> findByProjectId(String projectId, Sort sort, Limit limit);
+
+    Page<Label> findByProjectIdAndNameRegex(String projectId, Pattern name, Pageable pageable);
+}
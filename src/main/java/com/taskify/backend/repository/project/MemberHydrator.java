@@ -0,0 +1,81 @@
+package com.taskify.backend.repository.project;
+
+import com.taskify.backend.models.auth.User;
+import com.taskify.backend.models.project.Member;
+import com.taskify.backend.repository.auth.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves members and their users for a whole page at once: one $in query for the members and one for the users,
+ * instead of a findById pair per row. A read-side repository, so both the services and the custom repositories can
+ * use it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberHydrator {
+
+    private final MemberRepository memberRepository;
+    private final UserRepository userRepository;
+
+    public Members hydrate(Collection<String> memberIds) {
+        Map<String, Member> membersById = new HashMap<>();
+        memberRepository.findAllById(nonEmpty(memberIds))
+                .forEach(member -> membersById.put(member.getId(), member));
+        return new Members(membersById, findUsers(membersById.values()));
+    }
+
+    /**
+     * Same as {@link #hydrate(Collection)} for members that are already loaded; only their users are fetched.
+     */
+    public Members withUsers(Collection<Member> members) {
+        Map<String, Member> membersById = new HashMap<>();
+        members.forEach(member -> membersById.put(member.getId(), member));
+        return new Members(membersById, findUsers(members));
+    }
+
+    private Map<String, User> findUsers(Collection<Member> members) {
+        Set<String> userIds = members.stream()
+                .map(Member::getUserId)
+                .collect(Collectors.toSet());
+        Map<String, User> usersById = new HashMap<>();
+        userRepository.findAllById(nonEmpty(userIds))
+                .forEach(user -> usersById.put(user.getId(), user));
+        return usersById;
+    }
+
+    /**
+     * Distinct, non-blank ids, ready for an $in query.
+     */
+    public static List<String> nonEmpty(Collection<String> ids) {
+        return ids.stream()
+                .filter(id -> id != null && !id.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    public static class Members {
+        private final Map<String, Member> membersById;
+        private final Map<String, User> usersById;
+
+        private Members(Map<String, Member> membersById, Map<String, User> usersById) {
+            this.membersById = membersById;
+            this.usersById = usersById;
+        }
+
+        public Member member(String memberId) {
+            return memberId != null ? membersById.get(memberId) : null;
+        }
+
+        public User user(Member member) {
+            return member != null && member.getUserId() != null ? usersById.get(member.getUserId()) : null;
+        }
+
+        public User userOf(String memberId) {
+            return user(member(memberId));
+        }
+    }
+}
@@ -21,4 +21,6 @@ public interface MemberRepository extends MongoRepository<Member, String> {
     @Query("{ 'projectId': ?0 }")
     List<Member> findByProjectId(String projectId);
 
+    long countByProjectId(String projectId);
+
 }
\ No newline at end of file
@@ -3,7 +3,10 @@ package com.taskify.backend.repository.project;
 import com.taskify.backend.constants.DocumentEnums.DocAccessType;
 import com.taskify.backend.constants.DocumentEnums.DocStatus;
 import com.taskify.backend.dto.Document.GetDocumentsQueryDto;
+import com.taskify.backend.utils.ApiException;
+import com.taskify.backend.utils.PageCursor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
@@ -14,6 +17,7 @@ import org.springframework.stereotype.Repository;
 
 import java.util.*;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class ProjectDocumentRepositoryCustomImpl implements ProjectDocumentRepositoryCustom {
@@ -72,7 +76,7 @@ public class ProjectDocumentRepositoryCustomImpl implements ProjectDocumentRepos
     @Override
     public Map<String, Object> getDocuments(String projectId, String memberId, GetDocumentsQueryDto filters) {
         try {
-            System.out.println("Getting documents for projectId: " + projectId + ", memberId: " + memberId);
+            log.debug("Getting documents for projectId: {}, memberId: {}", projectId, memberId);
             
             Criteria criteria = Criteria.where("projectId").is(projectId).and("isDeleted").is(false);
             
@@ -103,62 +107,36 @@ public class ProjectDocumentRepositoryCustomImpl implements ProjectDocumentRepos
             org.springframework.data.mongodb.core.query.Query query = 
                 org.springframework.data.mongodb.core.query.Query.query(criteria);
             
-            // Add sorting
-            if (filters.getSortByCreated() != null && filters.getSortByCreated()) {
-                query.with(Sort.by(Sort.Direction.ASC, "createdAt"));
-            } else {
-                query.with(Sort.by(Sort.Direction.DESC, "createdAt"));
-            }
+            // Add sorting, with _id as tie-breaker so pages never overlap
+            Sort.Direction direction = filters.getSortByCreated() != null && filters.getSortByCreated()
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+            query.with(Sort.by(direction, "createdAt").and(Sort.by(direction, "_id")));
             
-            List<Map> docs = mongoTemplate.find(query, Map.class, "documents");
+            int limit = filters.getLimit() != null ? filters.getLimit() : 10;
             
-            System.out.println("Found " + docs.size() + " documents");
-            
-            // Process each document
-            List<Map<String, Object>> processedDocs = new ArrayList<>();
-            for (Map doc : docs) {
-                Map<String, Object> processedDoc = new HashMap<>(doc);
-                
-                // Convert ObjectId to string
-                if (processedDoc.get("_id") instanceof ObjectId) {
-                    processedDoc.put("_id", ((ObjectId) processedDoc.get("_id")).toString());
-                }
-                
-                // Add computed fields
-                processedDoc.put("commentCount", 
-                    processedDoc.get("comments") != null ? 
-                    ((List<?>) processedDoc.get("comments")).size() : 0);
-                
-                processedDoc.put("isMember", false); // Simplified
-                processedDoc.put("members", new ArrayList<>());
-                
-                // Add creator info (simplified)
-                processedDoc.put("creator", Map.of(
-                    "memberId", processedDoc.get("memberId"),
-                    "email", "user@example.com",
-                    "role", "Owner",
-                    "fullName", "User Name",
-                    "avatar", Map.of("url", "avatar_url", "_id", "avatar_id")
-                ));
-                
-                processedDocs.add(processedDoc);
+            if (filters.getCursor() != null) {
+                return getDocumentsByCursor(query, direction, filters.getCursor().trim(), limit);
             }
             
             // Calculate pagination
             int page = filters.getPage() != null ? filters.getPage() : 1;
-            int limit = filters.getLimit() != null ? filters.getLimit() : 10;
-            int total = processedDocs.size();
+            int startIndex = (page - 1) * limit;
+            long total = mongoTemplate.count(query, "documents");
             int totalPages = (int) Math.ceil((double) total / limit);
             
-            // Apply pagination
-            int startIndex = (page - 1) * limit;
-            int endIndex = Math.min(startIndex + limit, total);
-            List<Map<String, Object>> paginatedDocs = processedDocs.subList(startIndex, endIndex);
+            // Apply pagination in the database
+            query.skip(startIndex).limit(limit);
+            List<Map> docs = mongoTemplate.find(query, Map.class, "documents");
+            
+            log.debug("Found {} documents", docs.size());
+            
+            List<Map<String, Object>> paginatedDocs = processDocuments(docs);
             
             // Build response matching Node.js format
             Map<String, Object> response = new HashMap<>();
             response.put("docs", paginatedDocs);
-            response.put("total", total);
+            response.put("total", (int) total);
             response.put("limit", limit);
             response.put("page", page);
             response.put("totalPages", totalPages);
@@ -168,13 +146,73 @@ public class ProjectDocumentRepositoryCustomImpl implements ProjectDocumentRepos
             response.put("prevPage", page > 1 ? page - 1 : null);
             response.put("nextPage", page < totalPages ? page + 1 : null);
             
-            System.out.println("Returning response with " + paginatedDocs.size() + " docs");
+            log.debug("Returning response with {} docs", paginatedDocs.size());
             return response;
             
+        } catch (ApiException e) {
+            // e.g. a malformed cursor; already carries its status
+            throw e;
         } catch (Exception e) {
-            System.err.println("Error in getDocuments: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error in getDocuments: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch documents: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    private Map<String, Object> getDocumentsByCursor(org.springframework.data.mongodb.core.query.Query query,
+                                                     Sort.Direction direction, String cursor, int limit) {
+        if (!cursor.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(PageCursor.decode(cursor).after("createdAt", direction)));
+        }
+        // One extra row tells us whether another page exists without a count
+        query.limit(limit + 1);
+        
+        List<Map> docs = mongoTemplate.find(query, Map.class, "documents");
+        
+        boolean hasNextPage = docs.size() > limit;
+        List<Map> pageDocs = hasNextPage ? docs.subList(0, limit) : docs;
+        String nextCursor = null;
+        if (hasNextPage) {
+            Map last = pageDocs.get(pageDocs.size() - 1);
+            nextCursor = PageCursor.of(last.get("createdAt"), last.get("_id")).encode();
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("docs", processDocuments(pageDocs));
+        response.put("limit", limit);
+        response.put("hasNextPage", hasNextPage);
+        response.put("nextCursor", nextCursor);
+        return response;
+    }
+    
+    private List<Map<String, Object>> processDocuments(List<Map> docs) {
+        List<Map<String, Object>> processedDocs = new ArrayList<>();
+        for (Map doc : docs) {
+            Map<String, Object> processedDoc = new HashMap<>(doc);
+            
+            // Convert ObjectId to string
+            if (processedDoc.get("_id") instanceof ObjectId) {
+                processedDoc.put("_id", ((ObjectId) processedDoc.get("_id")).toString());
+            }
+            
+            // Add computed fields
+            processedDoc.put("commentCount", 
+                processedDoc.get("comments") != null ? 
+                ((List<?>) processedDoc.get("comments")).size() : 0);
+            
+            processedDoc.put("isMember", false); // Simplified
+            processedDoc.put("members", new ArrayList<>());
+            
+            // Add creator info (simplified)
+            processedDoc.put("creator", Map.of(
+                "memberId", processedDoc.get("memberId"),
+                "email", "user@example.com",
+                "role", "Owner",
+                "fullName", "User Name",
+                "avatar", Map.of("url", "avatar_url", "_id", "avatar_id")
+            ));
+            
+            processedDocs.add(processedDoc);
+        }
+        return processedDocs;
+    }
+}
@@ -4,11 +4,18 @@ import com.taskify.backend.models.project.Project;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends MongoRepository<Project, String> {
     List<Project> findByUserId(String userId);
+
+    // Seeds the per-user project counter, which only counts live projects
+    long countByUserIdAndIsDeletedNot(String userId, boolean isDeleted);
+
+    // $ne rather than false, so projects saved before isDeleted existed are still listed
+    List<Project> findByIdInAndIsDeletedNot(Collection<String> ids, boolean isDeleted);
 }
 
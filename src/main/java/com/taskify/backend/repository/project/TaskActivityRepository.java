@@ -0,0 +1,11 @@
+package com.taskify.backend.repository.project;
+
+
+import com.taskify.backend.models.project.TaskActivity;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskActivityRepository extends MongoRepository<TaskActivity, String> {
+    long countByTaskId(String taskId);
+}
@@ -7,7 +7,6 @@ import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -118,70 +117,4 @@ public interface TaskRepository extends MongoRepository<Task, String>, TaskRepos
     })
     List<Map<String, Object>> getMembersCompletedTasksForCurrentMonth(String projectId);
 
-    @Aggregation(pipeline = {
-            "{ $match: { " +
-                    "projectId: ?1, " +
-                    "'assignees': ?0, " +
-                    "$or: [ { isDeleted: false }, { isDeleted: { $exists: false } } ] " +
-                    "} }",
-            "{ $group: { _id: '$status', count: { $sum: 1 } } }",
-            "{ $project: { _id: 0, status: '$_id', count: 1 } }"
-    })
-    List<Map<String, Object>> getUserAssignedTasks(String memberId, String projectId);
-
-    @Aggregation(pipeline = {
-            "{ $match: { " +
-                    "memberId: ?0, " +
-                    "$or: [ { isDeleted: false }, { isDeleted: { $exists: false } } ] " +
-                    "} }",
-            "{ $group: { _id: '$memberId', taskCount: { $sum: 1 } } }",
-            "{ $project: { _id: 0, memberId: '$_id', taskCount: 1 } }"
-    })
-    Optional<Map<String, Object>> getUserCreatedTask(String memberId);
-
-    @Aggregation(pipeline = {
-            "{ $match: { " +
-                    "'assignees': { $in: ?0 }, " +
-                    "$or: [ { isDeleted: false }, { isDeleted: { $exists: false } } ] " +
-                    "} }",
-            "{ $group: { _id: '$status', count: { $sum: 1 } } }",
-            "{ $project: { _id: 0, status: '$_id', count: 1 } }"
-    })
-    List<Map<String, Object>> getUserAssignedTasksAllProjects(List<String> memberIds);
-
-    @Aggregation(pipeline = {
-            "{ $match: { " +
-                    "memberId: { $in: ?0 }, " +
-                    "$or: [ { isDeleted: false }, { isDeleted: { $exists: false } } ] " +
-                    "} }",
-            "{ $group: { _id: null, taskCount: { $sum: 1 } } }",
-            "{ $project: { _id: 0, taskCount: 1 } }"
-    })
-    Optional<Map<String, Object>> getUserCreatedTaskAllProjects(List<String> memberIds);
-
-    // Single project
-    @Aggregation(pipeline = {
-            "{ $match: { " +
-                    "projectId: ?1, " +
-                    "status: 'COMPLETED', " +
-                    "completedDate: { $gte: ?0 }, " +
-                    "$or: [ { isDeleted: false }, { isDeleted: { $exists: false } } ] " +
-                    "} }",
-            "{ $project: { completedDate: 1 } }"
-    })
-    List<Map<String, Object>> getLast30DaysTasksByProject(Date fromDate, String projectId);
-
-    // All projects
-    @Aggregation(pipeline = {
-            "{ $match: { " +
-                    "'assignees': { $in: ?1 }, " +
-                    "status: 'COMPLETED', " +
-                    "completedDate: { $gte: ?0 }, " +
-                    "$or: [ { isDeleted: false }, { isDeleted: { $exists: false } } ] " +
-                    "} }",
-            "{ $project: { completedDate: 1 } }"
-    })
-    List<Map<String, Object>> getLast30DaysTasksAllProjects(Date fromDate, List<String> memberIds);
-
-
 }
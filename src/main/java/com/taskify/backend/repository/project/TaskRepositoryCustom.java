@@ -1,8 +1,37 @@
 package com.taskify.backend.repository.project;
 
+import com.taskify.backend.constants.CommentEnums.CommentType;
+import com.taskify.backend.constants.TaskEnums.TaskStatus;
+import com.taskify.backend.models.project.Task;
+
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 public interface TaskRepositoryCustom {
-    Optional<Map<String, Object>> getTaskWithComments(String taskId, String memberId);
+    Optional<Map<String, Object>> getTaskWithComments(String taskId, String memberId, int commentLimit);
+
+    Map<String, Object> getTaskComments(String taskId, List<String> commentIds, CommentType commentType, String cursor, int limit, String memberId);
+
+    // Targeted task writes: one findAndModify each, with the action's preconditions in the filter. They return the
+    // task as it was before the write, or empty when no live task matched.
+
+    // A null value in changes unsets the field
+    Optional<Task> updateDetails(String taskId, String projectId, String creatorId, Map<String, Object> changes);
+
+    Optional<Task> changeStatus(String taskId, String projectId, TaskStatus status, LocalDate completedDate);
+
+    Optional<Task> addAssignee(String taskId, String projectId, String memberId);
+
+    Optional<Task> removeAssignee(String taskId, String projectId, String memberId);
+
+    // creatorId, when set, limits the delete to tasks that member created
+    Optional<Task> markDeleted(String taskId, String projectId, String creatorId);
+
+    Optional<Task> addComment(String taskId, String commentId);
+
+    Optional<Task> removeComment(String taskId, String commentId);
+
+    boolean existsLive(String taskId, String projectId);
 }
@@ -1,17 +1,27 @@
 package com.taskify.backend.repository.project;
 
+import com.taskify.backend.constants.CommentEnums.CommentType;
+import com.taskify.backend.constants.TaskEnums.TaskStatus;
 import com.taskify.backend.models.project.Comment;
 import com.taskify.backend.models.project.Member;
 import com.taskify.backend.models.project.Task;
+import com.taskify.backend.models.project.TaskActivity;
 import com.taskify.backend.models.auth.User;
+import com.taskify.backend.utils.PageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -21,16 +31,24 @@ import java.util.stream.Collectors;
 public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
 
     private final MongoTemplate mongoTemplate;
-    private final MemberRepository memberRepository;
-    private final com.taskify.backend.repository.auth.UserRepository userRepository;
+    private final MemberHydrator memberHydrator;
     private final CommentRepository commentRepository;
+    private final TaskActivityRepository taskActivityRepository;
+
+    private static final Sort TIMELINE_ORDER = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "_id"));
+
+    // Ids are ObjectId hex strings of equal length, so comparing them as strings keeps insertion order
+    private static final Comparator<Comment> NEWEST_FIRST = Comparator
+            .comparing(Comment::getCreatedAt, Comparator.nullsFirst(Comparator.<Instant>naturalOrder()))
+            .thenComparing(Comment::getId)
+            .reversed();
 
     @Override
-    public Optional<Map<String, Object>> getTaskWithComments(String taskId, String memberId) {
+    public Optional<Map<String, Object>> getTaskWithComments(String taskId, String memberId, int commentLimit) {
         // Fetch task using MongoTemplate
         Query query = new Query(Criteria.where("_id").is(new ObjectId(taskId)));
         Task task = mongoTemplate.findOne(query, Task.class);
-        
+
         if (task == null || (task.getIsDeleted() != null && task.getIsDeleted())) {
             return Optional.empty();
         }
@@ -45,29 +63,46 @@ public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
         result.put("taskType", task.getTaskType());
         result.put("taskNumber", task.getTaskNumber());
 
-        // Get creator
         String taskMemberId = task.getMemberId();
+        List<String> assigneeIds = task.getAssignees() != null ? task.getAssignees() : List.of();
+        List<String> commentIds = task.getComments() != null ? task.getComments() : List.of();
         log.info("Task memberId: {}", taskMemberId);
-        log.info("Task assignees: {}", task.getAssignees());
-        log.info("Task comments: {}", task.getComments());
-        
-        if (taskMemberId != null && !taskMemberId.isEmpty()) {
-            Member creatorMember = memberRepository.findById(taskMemberId).orElse(null);
-            log.info("Creator member found: {}", creatorMember != null);
-            if (creatorMember != null) {
-                String creatorUserId = creatorMember.getUserId();
-                User creatorUser = creatorUserId != null ? userRepository.findById(creatorUserId).orElse(null) : null;
-                Map<String, Object> creator = new HashMap<>();
-                creator.put("fullName", creatorUser != null ? creatorUser.getFullName() : "");
-                creator.put("email", creatorMember.getEmail());
-                creator.put("role", creatorMember.getRole().toString());
-                creator.put("avatar", creatorUser != null ? creatorUser.getAvatar() : null);
-                result.put("creator", creator);
-                result.put("isCreator", creatorMember.getId().equals(memberId));
-            } else {
-                result.put("creator", new HashMap<>());
-                result.put("isCreator", false);
-            }
+        log.info("Task assignees: {}", assigneeIds);
+        log.info("Task comments: {}", commentIds.size());
+
+        // Only the newest comments are embedded; older ones come from the comment timeline
+        List<String> recentCommentIds = commentIds.subList(Math.max(0, commentIds.size() - commentLimit), commentIds.size());
+
+        // Batch 1: the embedded comments and the newest activity events, merged into one timeline
+        List<Comment> timeline = new ArrayList<>();
+        commentRepository.findAllById(MemberHydrator.nonEmpty(recentCommentIds)).forEach(timeline::add);
+        timeline.addAll(findActivity(taskId, null, null, commentLimit));
+        timeline.sort(NEWEST_FIRST);
+        List<Comment> recentComments = new ArrayList<>(timeline.subList(0, Math.min(commentLimit, timeline.size())));
+        Collections.reverse(recentComments);
+        // Comments plus activity events, the same definition as the commentCount of the task lists
+        long commentCount = commentIds.size() + taskActivityRepository.countByTaskId(taskId);
+
+        // Batch 2 + 3: creator, assignees and comment authors, then their users
+        Set<String> memberIds = new HashSet<>(assigneeIds);
+        if (taskMemberId != null) {
+            memberIds.add(taskMemberId);
+        }
+        recentComments.forEach(comment -> memberIds.add(comment.getMemberId()));
+        MemberHydrator.Members people = memberHydrator.hydrate(memberIds);
+
+        // Get creator
+        Member creatorMember = people.member(taskMemberId);
+        log.info("Creator member found: {}", creatorMember != null);
+        if (creatorMember != null) {
+            User creatorUser = people.user(creatorMember);
+            Map<String, Object> creator = new HashMap<>();
+            creator.put("fullName", creatorUser != null ? creatorUser.getFullName() : "");
+            creator.put("email", creatorMember.getEmail());
+            creator.put("role", creatorMember.getRole().toString());
+            creator.put("avatar", creatorUser != null ? creatorUser.getAvatar() : null);
+            result.put("creator", creator);
+            result.put("isCreator", creatorMember.getId().equals(memberId));
         } else {
             result.put("creator", new HashMap<>());
             result.put("isCreator", false);
@@ -75,66 +110,207 @@ public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
 
         // Get members (assignees)
         List<Map<String, Object>> members = new ArrayList<>();
-        if (task.getAssignees() != null && !task.getAssignees().isEmpty()) {
-            for (String assigneeId : task.getAssignees()) {
-                if (assigneeId != null && !assigneeId.isEmpty()) {
-                    Member member = memberRepository.findById(assigneeId).orElse(null);
-                    if (member != null) {
-                        Map<String, Object> memberMap = new HashMap<>();
-                        memberMap.put("_id", member.getId());
-                        memberMap.put("email", member.getEmail());
-                        members.add(memberMap);
-                    }
-                }
+        for (String assigneeId : assigneeIds) {
+            Member member = people.member(assigneeId);
+            if (member != null) {
+                Map<String, Object> memberMap = new HashMap<>();
+                memberMap.put("_id", member.getId());
+                memberMap.put("email", member.getEmail());
+                members.add(memberMap);
             }
         }
         result.put("members", members);
-        result.put("isMember", task.getAssignees() != null && task.getAssignees().contains(memberId));
-
-        // Get comments with authors
-        List<Map<String, Object>> comments = new ArrayList<>();
-        if (task.getComments() != null && !task.getComments().isEmpty()) {
-            for (String commentId : task.getComments()) {
-                if (commentId != null && !commentId.isEmpty()) {
-                    Comment comment = commentRepository.findById(commentId).orElse(null);
-                    if (comment != null) {
-                        Map<String, Object> commentMap = new HashMap<>();
-                        commentMap.put("_id", comment.getId());
-                        commentMap.put("content", comment.getContent());
-                        commentMap.put("commentType", comment.getCommentType().toString());
-                        commentMap.put("createdAt", comment.getCreatedAt());
-                        commentMap.put("updatedAt", comment.getUpdatedAt());
-
-                        // Get comment author
-                        String commentMemberId = comment.getMemberId();
-                        if (commentMemberId != null && !commentMemberId.isEmpty()) {
-                            Member authorMember = memberRepository.findById(commentMemberId).orElse(null);
-                            if (authorMember != null) {
-                                String authorUserId = authorMember.getUserId();
-                                User authorUser = authorUserId != null ? userRepository.findById(authorUserId).orElse(null) : null;
-                                
-                                Map<String, Object> author = new HashMap<>();
-                                author.put("_id", authorMember.getId());
-                                author.put("email", authorMember.getEmail());
-                                author.put("role", authorMember.getRole().toString());
-                                author.put("isAuthor", authorMember.getId().equals(memberId));
-                                
-                                Map<String, Object> authorUserMap = new HashMap<>();
-                                authorUserMap.put("fullName", authorUser != null ? authorUser.getFullName() : "");
-                                authorUserMap.put("avatar", authorUser != null ? authorUser.getAvatar() : null);
-                                author.put("user", authorUserMap);
-                                
-                                commentMap.put("author", author);
-                            }
-                        }
-                        
-                        comments.add(commentMap);
-                    }
-                }
+        result.put("isMember", assigneeIds.contains(memberId));
+
+        // Get comments with authors, oldest first
+        result.put("comments", toCommentMaps(recentComments, people, memberId));
+        result.put("commentCount", commentCount);
+        result.put("hasMoreComments", commentCount > recentComments.size());
+        result.put("nextCommentCursor", commentCount > recentComments.size() && !recentComments.isEmpty()
+                ? PageCursor.of(Date.from(recentComments.get(0).getCreatedAt()), recentComments.get(0).getId()).encode()
+                : null);
+
+        return Optional.of(result);
+    }
+
+    @Override
+    public Map<String, Object> getTaskComments(String taskId, List<String> commentIds, CommentType commentType,
+                                               String cursor, int limit, String memberId) {
+        Query query = new Query(Criteria.where("_id").in(MemberHydrator.nonEmpty(commentIds)));
+        if (commentType != null) {
+            query.addCriteria(Criteria.where("commentType").is(commentType));
+        }
+        if (cursor != null && !cursor.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(PageCursor.decode(cursor).after("createdAt", Sort.Direction.DESC)));
+        }
+        query.with(TIMELINE_ORDER);
+        // One extra row tells us whether another page exists without a count
+        query.limit(limit + 1);
+
+        List<Comment> comments = new ArrayList<>(mongoTemplate.find(query, Comment.class));
+        // Older tasks still carry system comments in the array; new ones are activity events
+        if (commentType != CommentType.GENERAL) {
+            comments.addAll(findActivity(taskId, commentType, cursor, limit + 1));
+            comments.sort(NEWEST_FIRST);
+        }
+
+        boolean hasNextPage = comments.size() > limit;
+        List<Comment> pageComments = hasNextPage ? comments.subList(0, limit) : comments;
+        String nextCursor = null;
+        if (hasNextPage) {
+            Comment last = pageComments.get(pageComments.size() - 1);
+            nextCursor = PageCursor.of(Date.from(last.getCreatedAt()), last.getId()).encode();
+        }
+
+        MemberHydrator.Members members = memberHydrator.hydrate(pageComments.stream()
+                .map(Comment::getMemberId)
+                .collect(Collectors.toSet()));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("comments", toCommentMaps(pageComments, members, memberId));
+        result.put("limit", limit);
+        result.put("hasNextPage", hasNextPage);
+        result.put("nextCursor", nextCursor);
+        return result;
+    }
+
+    @Override
+    public Optional<Task> updateDetails(String taskId, String projectId, String creatorId,
+                                        Map<String, Object> changes) {
+        Criteria filter = liveTask(taskId, projectId);
+        if (creatorId != null) {
+            filter.and("memberId").is(creatorId);
+        }
+        Update update = new Update();
+        changes.forEach((field, value) -> {
+            if (value != null) {
+                update.set(field, value);
+            } else {
+                update.unset(field);
             }
+        });
+        return modify(filter, update);
+    }
+
+    @Override
+    public Optional<Task> changeStatus(String taskId, String projectId, TaskStatus status, LocalDate completedDate) {
+        Update update = new Update().set("status", status);
+        if (completedDate != null) {
+            update.set("completedDate", completedDate);
+        } else {
+            update.unset("completedDate");
+        }
+        return modify(liveTask(taskId, projectId), update);
+    }
+
+    @Override
+    public Optional<Task> addAssignee(String taskId, String projectId, String memberId) {
+        // The $ne guard makes concurrent assignments of the same member a no-op instead of a duplicate
+        Criteria filter = liveTask(taskId, projectId).and("assignees").ne(memberId);
+        return modify(filter, new Update().push("assignees", memberId));
+    }
+
+    @Override
+    public Optional<Task> removeAssignee(String taskId, String projectId, String memberId) {
+        Criteria filter = liveTask(taskId, projectId).and("assignees").is(memberId);
+        return modify(filter, new Update().pull("assignees", memberId));
+    }
+
+    @Override
+    public Optional<Task> markDeleted(String taskId, String projectId, String creatorId) {
+        Criteria filter = liveTask(taskId, projectId);
+        if (creatorId != null) {
+            filter.and("memberId").is(creatorId);
         }
-        result.put("comments", comments);
+        return modify(filter, new Update().set("isDeleted", true));
+    }
 
-        return Optional.of(result);
+    @Override
+    public Optional<Task> addComment(String taskId, String commentId) {
+        return modify(liveTask(taskId, null), new Update().push("comments", commentId));
+    }
+
+    @Override
+    public Optional<Task> removeComment(String taskId, String commentId) {
+        return modify(liveTask(taskId, null), new Update().pull("comments", commentId));
+    }
+
+    @Override
+    public boolean existsLive(String taskId, String projectId) {
+        return mongoTemplate.exists(new Query(liveTask(taskId, projectId)), Task.class);
+    }
+
+    private Optional<Task> modify(Criteria filter, Update update) {
+        update.set("updatedAt", LocalDateTime.now());
+        return Optional.ofNullable(mongoTemplate.findAndModify(new Query(filter), update,
+                FindAndModifyOptions.options().returnNew(false), Task.class));
+    }
+
+    private static Criteria liveTask(String taskId, String projectId) {
+        Criteria criteria = Criteria.where("_id").is(taskId).and("isDeleted").ne(true);
+        if (projectId != null) {
+            criteria.and("projectId").is(projectId);
+        }
+        return criteria;
+    }
+
+    /**
+     * The task's activity events, newest first, in the same shape as comments so both can share one timeline.
+     */
+    private List<Comment> findActivity(String taskId, CommentType type, String cursor, int limit) {
+        Query query = new Query(Criteria.where("taskId").is(taskId));
+        if (type != null) {
+            query.addCriteria(Criteria.where("type").is(type));
+        }
+        if (cursor != null && !cursor.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(PageCursor.decode(cursor).after("createdAt", Sort.Direction.DESC)));
+        }
+        query.with(TIMELINE_ORDER).limit(limit);
+
+        return mongoTemplate.find(query, TaskActivity.class).stream()
+                .map(activity -> Comment.builder()
+                        .id(activity.getId())
+                        .content(activity.getContent())
+                        .memberId(activity.getMemberId())
+                        .commentType(activity.getType())
+                        .createdAt(activity.getCreatedAt())
+                        .updatedAt(activity.getCreatedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private List<Map<String, Object>> toCommentMaps(List<Comment> comments, MemberHydrator.Members members,
+                                                    String memberId) {
+        List<Map<String, Object>> commentMaps = new ArrayList<>();
+        for (Comment comment : comments) {
+            Map<String, Object> commentMap = new HashMap<>();
+            commentMap.put("_id", comment.getId());
+            commentMap.put("content", comment.getContent());
+            commentMap.put("commentType", comment.getCommentType().toString());
+            commentMap.put("createdAt", comment.getCreatedAt());
+            commentMap.put("updatedAt", comment.getUpdatedAt());
+
+            // Get comment author
+            Member authorMember = members.member(comment.getMemberId());
+            if (authorMember != null) {
+                User authorUser = members.user(authorMember);
+
+                Map<String, Object> author = new HashMap<>();
+                author.put("_id", authorMember.getId());
+                author.put("email", authorMember.getEmail());
+                author.put("role", authorMember.getRole().toString());
+                author.put("isAuthor", authorMember.getId().equals(memberId));
+
+                Map<String, Object> authorUserMap = new HashMap<>();
+                authorUserMap.put("fullName", authorUser != null ? authorUser.getFullName() : "");
+                authorUserMap.put("avatar", authorUser != null ? authorUser.getAvatar() : null);
+                author.put("user", authorUserMap);
+
+                commentMap.put("author", author);
+            }
+
+            commentMaps.add(commentMap);
+        }
+        return commentMaps;
     }
 }
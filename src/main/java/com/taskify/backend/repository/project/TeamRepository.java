@@ -1,6 +1,8 @@
 package com.taskify.backend.repository.project;
 
 import com.taskify.backend.models.project.Team;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,5 +11,11 @@ import java.util.Optional;
 @Repository
 public interface TeamRepository extends MongoRepository<Team, String> {
     Optional<Team> findByNameAndProjectId(String name, String projectId);
+
+    Page<Team> findByProjectId(String projectId, Pageable pageable);
+
+    // The prefix is regex-escaped by Spring Data. Being case-insensitive it gets no tight bounds on name: the
+    // project_id index serves the projectId match and the _id sort, and the regex is checked per team
+    Page<Team> findByProjectIdAndNameStartingWithIgnoreCase(String projectId, String name, Pageable pageable);
 }
 
@@ -0,0 +1,9 @@
+package com.taskify.backend.repository.shared;
+
+import com.taskify.backend.models.shared.OutboundEmail;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboundEmailRepository extends MongoRepository<OutboundEmail, String> {
+}
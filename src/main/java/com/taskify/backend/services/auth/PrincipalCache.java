@@ -0,0 +1,54 @@
+package com.taskify.backend.services.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskify.backend.models.auth.User;
+import com.taskify.backend.repository.auth.UserRepository;
+import com.taskify.backend.utils.CacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Authenticated users keyed by user id, so the JWT filter does not hit Mongo on every request.
+ * Cached instances are shared between requests and must be treated as read-only.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> cache;
+
+    public PrincipalCache(
+            UserRepository userRepository,
+            @Value("${cache.principal.max-size:10000}") long maxSize,
+            @Value("${cache.principal.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<User> findById(String userId) {
+        // Unknown users are not cached, so a freshly registered account is visible immediately
+        User user = cache.get(userId, id -> userRepository.findById(id).orElse(null));
+        return Optional.ofNullable(user);
+    }
+
+    public void invalidate(String userId) {
+        log.info("Invalidating cached principal {}", userId);
+        cache.invalidate(userId);
+    }
+
+    public Map<String, Object> stats() {
+        return CacheMetrics.describe(cache);
+    }
+}
@@ -9,7 +9,6 @@ import com.taskify.backend.services.shared.TokenService;
 import com.taskify.backend.utils.ApiException;
 import com.taskify.backend.validators.auth.*;
 import com.taskify.backend.models.auth.User;
-import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,6 +28,7 @@ public class UserService {
     private final TokenService tokenService;
     private final HashService hashService;
     private final NotificationService notificationService;
+    private final PrincipalCache principalCache;
 
     @Value("${frontend.url}")
     private String frontendUrl;
@@ -53,16 +53,12 @@ public class UserService {
         templateVariables.put("fullName", request.getFullName());
         templateVariables.put("verificationLink", verificationLink);
 
-        try {
-            notificationService.sendWithTemplate(
-                    request.getEmail(),
-                    "Verify Email and Create Password",
-                    "verify-email",
-                    templateVariables
-            );
-        } catch (MessagingException e) {
-            throw new ApiException("Failed to send verification email", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        }
+        notificationService.sendWithTemplate(
+                request.getEmail(),
+                "Verify Email and Create Password",
+                "verify-email",
+                templateVariables
+        );
 
         Map<String, Object> data = new HashMap<>();
         data.put("email", request.getEmail());
@@ -214,16 +210,12 @@ public class UserService {
         templateVariables.put("fullName", user.getFullName());
         templateVariables.put("resetPasswordLink", resetPasswordLink);
 
-        try {
-            notificationService.sendWithTemplate(
-                    request.getEmail(),
-                    "Reset Your Password",
-                    "reset-password",
-                    templateVariables
-            );
-        } catch (MessagingException e) {
-            throw new ApiException("Failed to send verification email", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        }
+        notificationService.sendWithTemplate(
+                request.getEmail(),
+                "Reset Your Password",
+                "reset-password",
+                templateVariables
+        );
 
         Map<String, Object> data = new HashMap<>();
         data.put("email", request.getEmail());
@@ -264,6 +256,7 @@ public class UserService {
         String hashedPassword = hashService.hashData(password);
         user.setPassword(hashedPassword);
         userRepository.save(user);
+        principalCache.invalidate(user.getId());
 
         long EXP = 1000 * 60 * 60 * 24 * 30;
         String accessToken = tokenService.signToken(Map.of(
@@ -317,6 +310,7 @@ public class UserService {
 
         existingUser.setFullName(fullName);
         userRepository.save(existingUser);
+        principalCache.invalidate(existingUser.getId());
 
         Map<String, Object> userData = Map.of(
                 "userId", existingUser.getId(),
@@ -11,6 +11,9 @@ import com.taskify.backend.utils.ApiException;
 import com.taskify.backend.validators.project.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -18,6 +21,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -27,6 +31,8 @@ import java.util.stream.Collectors;
 public class LabelService {
     private final LabelRepository labelRepository;
     private final MemberRepository memberRepository;
+    private final ProjectLabelCache projectLabelCache;
+    private final MembershipCache membershipCache;
 
     public Map<String, Object> createLabel(User user, LabelValidator request) {
         String userId = user.getId();
@@ -34,7 +40,7 @@ public class LabelService {
 
         log.info("Creating label - userId: {}, projectId: {}", userId, projectId);
 
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
+        Member member = membershipCache.find(userId, projectId)
                 .orElseThrow(() -> new ApiException("Member not found", HttpStatus.NOT_FOUND.value()));
 
         if (member.getRole() == MemberRole.MEMBER) {
@@ -51,6 +57,7 @@ public class LabelService {
                 .build();
 
         label = labelRepository.save(label);
+        projectLabelCache.invalidate(label.getProjectId());
 
         return convertLabelToMap(label);
     }
@@ -62,15 +69,14 @@ public class LabelService {
 
         log.info("Updating label - userId: {}, labelId: {}", userId, labelId);
 
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
+        Member member = membershipCache.find(userId, projectId)
                 .orElseThrow(() -> new ApiException("Member not found", HttpStatus.NOT_FOUND.value()));
 
         if (member.getRole() == MemberRole.MEMBER) {
             throw new ApiException("You have no permission to update label", HttpStatus.FORBIDDEN.value());
         }
 
-        Label label = labelRepository.findById(labelId)
-                .orElseThrow(() -> new ApiException("Label not found", HttpStatus.NOT_FOUND.value()));
+        Label label = findProjectLabel(labelId, projectId);
 
         label.setName(request.getName());
         label.setDescription(request.getDescription());
@@ -78,6 +84,7 @@ public class LabelService {
         label.setUpdatedAt(Instant.now());
 
         label = labelRepository.save(label);
+        projectLabelCache.invalidate(label.getProjectId());
 
         return convertLabelToMap(label);
     }
@@ -89,47 +96,66 @@ public class LabelService {
 
         log.info("Deleting label - userId: {}, labelId: {}", userId, labelId);
 
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
+        Member member = membershipCache.find(userId, projectId)
                 .orElseThrow(() -> new ApiException("Member not found", HttpStatus.NOT_FOUND.value()));
 
         if (member.getRole() == MemberRole.MEMBER) {
             throw new ApiException("You have no permission to delete label", HttpStatus.FORBIDDEN.value());
         }
 
-        labelRepository.deleteById(labelId);
+        Label label = findProjectLabel(labelId, projectId);
+
+        labelRepository.deleteById(label.getId());
+        projectLabelCache.invalidate(label.getProjectId());
 
         return Map.of("lableId", labelId);
     }
 
+    /**
+     * The label, provided it belongs to the project the caller's role was checked against.
+     */
+    private Label findProjectLabel(String labelId, String projectId) {
+        return labelRepository.findById(labelId)
+                .filter(label -> projectId.equals(label.getProjectId()))
+                .orElseThrow(() -> new ApiException("Label not found", HttpStatus.NOT_FOUND.value()));
+    }
+
     public GetLabelsResponseDto getLabels(User user, GetLabelsQueryValidator query) {
         String userId = user.getId();
         String projectId = query.getProjectId();
         String name = query.getName() != null ? query.getName() : "";
         int page = Math.max(0, query.getPage() - 1);
-        int limit = query.getLimit();
+        int limit = Math.max(1, query.getLimit());
 
         log.info("Getting labels - userId: {}, projectId: {}", userId, projectId);
 
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
+        Member member = membershipCache.find(userId, projectId)
                 .orElseThrow(() -> new ApiException("Member not found", HttpStatus.NOT_FOUND.value()));
 
-        Pattern searchPattern = Pattern.compile(name, Pattern.CASE_INSENSITIVE);
-
-        List<Label> allLabels = labelRepository.findAll().stream()
-                .filter(label -> label.getProjectId() != null && label.getProjectId().equals(projectId))
-                .filter(label -> name.isEmpty() || (label.getName() != null && searchPattern.matcher(label.getName()).find()))
-                .sorted((a, b) -> {
-                    if (a.getCreatedAt() == null) return 1;
-                    if (b.getCreatedAt() == null) return -1;
-                    return b.getCreatedAt().compareTo(a.getCreatedAt());
-                })
-                .collect(Collectors.toList());
-
-        int total = allLabels.size();
+        Optional<List<Label>> cachedLabels = projectLabelCache.findByProjectId(projectId);
+
+        List<Label> paginatedLabels;
+        int total;
+        if (cachedLabels.isPresent()) {
+            // Same literal, case-insensitive match as the query below
+            String needle = name.toLowerCase();
+            List<Label> matching = cachedLabels.get().stream()
+                    .filter(label -> name.isEmpty() || (label.getName() != null && label.getName().toLowerCase().contains(needle)))
+                    .collect(Collectors.toList());
+            total = matching.size();
+            int start = Math.min(page * limit, total);
+            paginatedLabels = matching.subList(start, Math.min(start + limit, total));
+        } else {
+            // Newest first; Mongo orders missing createdAt last on a descending sort, as before
+            Pageable pageable = PageRequest.of(page, limit, ProjectLabelCache.LABEL_ORDER);
+            Page<Label> labelPage = name.isEmpty()
+                    ? labelRepository.findByProjectId(projectId, pageable)
+                    : labelRepository.findByProjectIdAndNameRegex(projectId,
+                            Pattern.compile(Pattern.quote(name), Pattern.CASE_INSENSITIVE), pageable);
+            paginatedLabels = labelPage.getContent();
+            total = (int) labelPage.getTotalElements();
+        }
         int totalPages = (int) Math.ceil((double) total / limit);
-        int start = page * limit;
-        int end = Math.min(start + limit, total);
-        List<Label> paginatedLabels = start < total ? allLabels.subList(start, end) : List.of();
 
         List<GetLabelsResponseDto.LabelDto> labelDtos = paginatedLabels.stream()
                 .map(label -> GetLabelsResponseDto.LabelDto.builder()
@@ -8,16 +8,22 @@ import com.taskify.backend.models.auth.User;
 import com.taskify.backend.models.project.Member;
 import com.taskify.backend.models.project.Project;
 import com.taskify.backend.repository.auth.UserRepository;
+import com.taskify.backend.repository.project.MemberHydrator;
 import com.taskify.backend.repository.project.MemberRepository;
 import com.taskify.backend.repository.project.ProjectRepository;
 import com.taskify.backend.services.shared.NotificationService;
+import com.taskify.backend.services.shared.SequenceService;
 import com.taskify.backend.services.shared.TokenService;
 import com.taskify.backend.utils.ApiException;
 import com.taskify.backend.validators.project.*;
-import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.MongoRegexCreator;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -26,7 +32,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,11 +39,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MemberService {
 
+    private final MongoTemplate mongoTemplate;
     private final ProjectRepository projectRepository;
     private final MemberRepository memberRepository;
     private final UserRepository userRepository;
+    private final MemberHydrator memberHydrator;
     private final TokenService tokenService;
     private final NotificationService notificationService;
+    private final SequenceService sequenceService;
+    private final MembershipCache membershipCache;
 
     @Value("${frontend.url}")
     private String frontendUrl;
@@ -47,17 +56,16 @@ public class MemberService {
         log.info("Getting members for user {}", user);
         log.info("Getting members for query {}", query);
 
-        Optional<Project> projectOpt = projectRepository.findById(query.getProjectId());
-        if (projectOpt.isEmpty()) {
-            throw new ApiException("Project not found", 400);
-        }
-
-        Optional<Member> memberOpt = memberRepository.findByUserIdAndProjectId(
+        Optional<Member> memberOpt = membershipCache.find(
                 user.getId(),
                 query.getProjectId()
         );
 
         if (memberOpt.isEmpty()) {
+            // Only read the project to tell a missing project from a missing membership
+            if (!projectRepository.existsById(query.getProjectId())) {
+                throw new ApiException("Project not found", 400);
+            }
             throw new ApiException("Member not found", 400);
         }
 
@@ -82,32 +90,37 @@ public class MemberService {
                 })
                 .orElse(null);
 
-        List<Member> allMembers = memberRepository.findByProjectId(query.getProjectId());
-
-        List<Member> filteredMembers = allMembers.stream()
-                .filter(m -> email.isEmpty() || Pattern.compile(email, Pattern.CASE_INSENSITIVE)
-                        .matcher(m.getEmail()).find())
-                .filter(m -> status == null || m.getInvitationStatus().equals(status))
-                .collect(Collectors.toList());
-
         int page = Math.max(0, query.getPage() - 1);
         int limit = query.getLimit();
-        int totalMembers = filteredMembers.size();
+
+        // Anchored, escaped prefix. Being case-insensitive it gets no tight bounds on email: the project_email index
+        // narrows by projectId only, and the regex is checked against every email key of the project
+        Query memberQuery = new Query(Criteria.where("projectId").is(query.getProjectId()));
+        if (!email.isEmpty()) {
+            String prefix = MongoRegexCreator.INSTANCE.toRegularExpression(email, MongoRegexCreator.MatchMode.STARTING_WITH);
+            memberQuery.addCriteria(Criteria.where("email").regex(prefix, "i"));
+        }
+        if (status != null) {
+            memberQuery.addCriteria(Criteria.where("invitationStatus").is(status));
+        }
+
+        List<Member> paginated = mongoTemplate.find(Query.of(memberQuery)
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .skip((long) page * limit)
+                .limit(limit), Member.class);
+
+        // A partial first page already tells us the total
+        int totalMembers = page == 0 && paginated.size() < limit
+                ? paginated.size()
+                : (int) mongoTemplate.count(memberQuery, Member.class);
         int totalPages = (int) Math.ceil((double) totalMembers / limit);
 
-        int start = page * limit;
-        int end = Math.min(start + limit, totalMembers);
-        List<Member> paginated = filteredMembers.subList(start, end);
+        // Users for the whole page in one query
+        MemberHydrator.Members members = memberHydrator.withUsers(paginated);
 
         List<GetMembersResponseDto.MemberDto> memberDtos = paginated.stream().map(m -> {
-            String fullName = "Pending";
-
-            if (m.getUserId() != null && !m.getUserId().isEmpty()) {
-                Optional<User> userOpt = userRepository.findById(m.getUserId());
-                if (userOpt.isPresent()) {
-                    fullName = userOpt.get().getFullName();
-                }
-            }
+            User memberUser = members.user(m);
+            String fullName = memberUser != null ? memberUser.getFullName() : "Pending";
 
             GetMembersResponseDto.UserDto userDto = new GetMembersResponseDto.UserDto(fullName);
 
@@ -161,21 +174,17 @@ public class MemberService {
             }
         }
 
-        int count = memberRepository.findByProjectId(projectId).size();
-
-        if (user.getPricingModel() == PricingModel.FREE && count >= 5) {
-            throw new ApiException("You can only invite 5 members. Please upgrade your plan.", 400);
-        } else if (user.getPricingModel() == PricingModel.PREMIUM && count >= 30) {
-            throw new ApiException("You can only invite 30 members. Please upgrade your plan.", 400);
-        } else if (user.getPricingModel() == PricingModel.ENTERPRISE && count >= 150) {
-            throw new ApiException("You can only invite 150 members. Please contact the support team.", 400);
-        }
-
         if (email.equalsIgnoreCase(user.getEmail())) {
             throw new ApiException("You are not allowed to invite yourself", 400);
         }
 
         Member member = existingMemberOpt.orElseGet(() -> {
+            // Claim a seat before inserting; the conditional increment keeps concurrent invites within the plan
+            if (!sequenceService.tryAcquire(memberCounter(projectId), memberLimit(user.getPricingModel()),
+                    () -> memberRepository.countByProjectId(projectId))) {
+                throw memberLimitReached(user.getPricingModel());
+            }
+
             Member newMember = new Member();
             newMember.setEmail(email);
             newMember.setProjectId(projectId);  // Store only project ID
@@ -183,7 +192,12 @@ public class MemberService {
             newMember.setInvitationStatus(InvitationStatus.PENDING);
             newMember.setCreatedAt(Instant.now());
             newMember.setUpdatedAt(Instant.now());
-            return memberRepository.save(newMember);
+            try {
+                return memberRepository.save(newMember);
+            } catch (RuntimeException e) {
+                sequenceService.release(memberCounter(projectId));
+                throw e;
+            }
         });
 
         long EXP = 60 * 60 * 1000 * 24 * 7;  // 7 days
@@ -210,17 +224,12 @@ public class MemberService {
         templateVariables.put("inviteSenderName", user.getFullName());
         templateVariables.put("projectName", project.getName());
 
-        try {
-            notificationService.sendWithTemplate(
-                    request.getEmail(),
-                    "Invitation from " + project.getName(),
-                    "invite-member",
-                    templateVariables
-            );
-        } catch (MessagingException e) {
-            log.error("Failed to send invite email", e);
-            throw new ApiException("Failed to send invite email", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        }
+        notificationService.sendWithTemplate(
+                request.getEmail(),
+                "Invitation from " + project.getName(),
+                "invite-member",
+                templateVariables
+        );
 
         return Map.of("memberId", member.getId());
     }
@@ -282,11 +291,14 @@ public class MemberService {
             throw new ApiException("This user has already accepted the project invitation", 400);
         }
 
+        String previousUserId = member.getUserId();
         member.setInvitationStatus(invitationStatus);
         member.setEmail(tokenEmail);
         member.setUserId(user.getId());
         member.setUpdatedAt(Instant.now());
         memberRepository.save(member);
+        membershipCache.invalidate(previousUserId, member.getProjectId());
+        membershipCache.invalidate(user.getId(), member.getProjectId());
 
         return Map.of(
                 "memberId", member.getId(),
@@ -314,7 +326,7 @@ public class MemberService {
             throw new ApiException("You can not remove the owner of the project", 400);
         }
 
-        Optional<Member> ownerOpt = memberRepository.findByUserIdAndProjectId(userId, projectId);
+        Optional<Member> ownerOpt = membershipCache.find(userId, projectId);
         if (ownerOpt.isEmpty()) {
             throw new ApiException("You have no permission to remove member the project", 403);
         }
@@ -325,6 +337,8 @@ public class MemberService {
         }
 
         memberRepository.deleteById(memberId);
+        membershipCache.invalidate(member.getUserId(), member.getProjectId());
+        sequenceService.release(memberCounter(member.getProjectId()));
         log.info("Member {} removed successfully", memberId);
 
         return Map.of(
@@ -350,13 +364,14 @@ public class MemberService {
             throw new ApiException("You cannot update the owner of the project", 400);
         }
 
-        Optional<Member> ownerOpt = memberRepository.findByUserIdAndProjectId(user.getId(), projectId);
+        Optional<Member> ownerOpt = membershipCache.find(user.getId(), projectId);
         if (ownerOpt.isEmpty() || !ownerOpt.get().getRole().equals(MemberRole.OWNER)) {
             throw new ApiException("Only the owner can update a member role", 403);
         }
 
         member.setRole(newRole);
         memberRepository.save(member);
+        membershipCache.invalidate(member.getUserId(), member.getProjectId());
         log.info("Member {} role updated to {}", memberId, newRole);
 
         return Map.of(
@@ -366,4 +381,32 @@ public class MemberService {
         );
     }
 
-}
\ No newline at end of file
+    static String memberCounter(String projectId) {
+        return "members:" + projectId;
+    }
+
+    private static long memberLimit(PricingModel pricingModel) {
+        if (pricingModel == null) {
+            return Long.MAX_VALUE;
+        }
+        switch (pricingModel) {
+            case FREE:
+                return 5;
+            case PREMIUM:
+                return 30;
+            case ENTERPRISE:
+                return 150;
+            default:
+                return Long.MAX_VALUE;
+        }
+    }
+
+    private static ApiException memberLimitReached(PricingModel pricingModel) {
+        if (pricingModel == PricingModel.FREE) {
+            return new ApiException("You can only invite 5 members. Please upgrade your plan.", 400);
+        } else if (pricingModel == PricingModel.PREMIUM) {
+            return new ApiException("You can only invite 30 members. Please upgrade your plan.", 400);
+        }
+        return new ApiException("You can only invite 150 members. Please contact the support team.", 400);
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskify.backend.services.project;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskify.backend.models.project.Member;
+import com.taskify.backend.repository.project.MemberRepository;
+import com.taskify.backend.utils.CacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The caller's membership of a project (memberId, role, invitation status), keyed by (userId, projectId), for the
+ * authorization check at the top of nearly every project endpoint. Only existing memberships are cached, so a new
+ * invitation is visible right away; changes to a membership must be reported through the invalidate methods, and
+ * the TTL bounds how long another instance can serve a stale role.
+ */
+@Slf4j
+@Component
+public class MembershipCache {
+
+    private final MemberRepository memberRepository;
+    private final Cache<String, Member> cache;
+
+    public MembershipCache(
+            MemberRepository memberRepository,
+            @Value("${cache.membership.max-entries:20000}") long maxEntries,
+            @Value("${cache.membership.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Same contract as {@link MemberRepository#findByUserIdAndProjectId}. Callers get their own copy and may
+     * modify it freely.
+     */
+    public Optional<Member> find(String userId, String projectId) {
+        if (userId == null || projectId == null) {
+            return Optional.empty();
+        }
+        String key = key(userId, projectId);
+        Member cached = cache.getIfPresent(key);
+        if (cached == null) {
+            cached = memberRepository.findByUserIdAndProjectId(userId, projectId).map(MembershipCache::copyOf).orElse(null);
+            if (cached == null) {
+                return Optional.empty();
+            }
+            cache.put(key, cached);
+        }
+        return Optional.of(copyOf(cached));
+    }
+
+    public void invalidate(String userId, String projectId) {
+        if (userId != null && projectId != null) {
+            cache.invalidate(key(userId, projectId));
+        }
+    }
+
+    public void invalidateProject(String projectId) {
+        log.info("Invalidating cached memberships of project {}", projectId);
+        String suffix = ":" + projectId;
+        cache.asMap().keySet().removeIf(key -> key.endsWith(suffix));
+    }
+
+    public Map<String, Object> stats() {
+        return CacheMetrics.describe(cache);
+    }
+
+    private static String key(String userId, String projectId) {
+        return userId + ":" + projectId;
+    }
+
+    private static Member copyOf(Member member) {
+        return Member.builder()
+                .id(member.getId())
+                .userId(member.getUserId())
+                .projectId(member.getProjectId())
+                .email(member.getEmail())
+                .role(member.getRole())
+                .invitationStatus(member.getInvitationStatus())
+                .createdAt(member.getCreatedAt())
+                .updatedAt(member.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,237 @@
+package com.taskify.backend.services.project;
+
+import com.taskify.backend.constants.ProjectEnums.CleanupStatus;
+import com.taskify.backend.models.project.*;
+import com.taskify.backend.services.shared.SequenceService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Cascades a project deletion to its tasks, task activity, documents, issues, teams, labels and comments in the
+ * background.
+ * Every step is a bulk write (or a few chunked ones for comments) and is idempotent, so a job interrupted by a
+ * restart is simply picked up again and resumes after its last finished step.
+ */
+@Slf4j
+@Service
+public class ProjectCleanupService {
+
+    private static final int COMMENT_CHUNK_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ProjectLabelCache projectLabelCache;
+    private final TaskStatsService taskStatsService;
+    private final SequenceService sequenceService;
+    private final ExecutorService executor;
+    private final AtomicBoolean resuming = new AtomicBoolean();
+
+    @Value("${project.cleanup.stale-seconds:300}")
+    private long staleSeconds;
+
+    @Value("${project.cleanup.max-attempts:5}")
+    private int maxAttempts;
+
+    public ProjectCleanupService(MongoTemplate mongoTemplate, ProjectLabelCache projectLabelCache,
+                                 TaskStatsService taskStatsService, SequenceService sequenceService) {
+        this.mongoTemplate = mongoTemplate;
+        this.projectLabelCache = projectLabelCache;
+        this.taskStatsService = taskStatsService;
+        this.sequenceService = sequenceService;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "project-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public ProjectCleanupJob schedule(String projectId, String userId) {
+        ProjectCleanupJob job = mongoTemplate.insert(ProjectCleanupJob.builder()
+                .projectId(projectId)
+                .userId(userId)
+                .updatedAt(Instant.now())
+                .build());
+
+        Query pending = new Query(Criteria.where("_id").is(job.getId()).and("status").is(CleanupStatus.PENDING));
+        executor.submit(() -> claimAndRun(pending));
+        return job;
+    }
+
+    public Optional<ProjectCleanupJob> findLatest(String projectId) {
+        Query query = new Query(Criteria.where("projectId").is(projectId))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .limit(1);
+        return Optional.ofNullable(mongoTemplate.findOne(query, ProjectCleanupJob.class));
+    }
+
+    /**
+     * Picks up jobs whose worker stopped heart-beating, e.g. because the instance was restarted mid-cleanup. The
+     * jobs run on the cleanup executor, not on the shared scheduler thread.
+     */
+    @Scheduled(
+            initialDelayString = "${project.cleanup.resume-initial-delay-ms:60000}",
+            fixedDelayString = "${project.cleanup.resume-interval-ms:60000}"
+    )
+    public void resumeStalled() {
+        if (!resuming.compareAndSet(false, true)) {
+            return;
+        }
+        executor.submit(() -> {
+            try {
+                // Claim one job at a time, right before running it, so several instances share the backlog
+                while (claimAndRun(new Query(Criteria.where("status").in(CleanupStatus.PENDING, CleanupStatus.RUNNING)
+                        .and("updatedAt").lt(Instant.now().minusSeconds(staleSeconds))))) {
+                    // keep going until no stalled job is left
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to resume stalled project cleanups: {}", e.getMessage());
+            } finally {
+                resuming.set(false);
+            }
+        });
+    }
+
+    private boolean claimAndRun(Query query) {
+        Update claim = new Update()
+                .set("status", CleanupStatus.RUNNING)
+                .set("updatedAt", Instant.now())
+                .inc("attempts", 1);
+        ProjectCleanupJob job = mongoTemplate.findAndModify(query, claim,
+                FindAndModifyOptions.options().returnNew(true), ProjectCleanupJob.class);
+        if (job == null) {
+            return false;
+        }
+        run(job);
+        return true;
+    }
+
+    private void run(ProjectCleanupJob job) {
+        String projectId = job.getProjectId();
+        long started = System.nanoTime();
+        log.info("Cleaning up project {} (job {}, attempt {})", projectId, job.getId(), job.getAttempts());
+
+        try {
+            // Comments first: they are only reachable through the task, document and issue ids
+            step(job, "comments", () -> deleteComments(job));
+            step(job, "tasks", () -> softDelete(Task.class, projectId, "isDeleted"));
+            step(job, "taskActivity", () -> mongoTemplate.remove(byProject(projectId), TaskActivity.class).getDeletedCount());
+            step(job, "taskStats", () -> taskStatsService.deleteProject(projectId));
+            step(job, "documents", () -> softDelete(ProjectDocument.class, projectId, "isDeleted"));
+            step(job, "issues", () -> softDelete(Issue.class, projectId, "isDeleted"));
+            step(job, "teams", () -> softDelete(Team.class, projectId, "deleted"));
+            step(job, "labels", () -> {
+                long removed = mongoTemplate.remove(byProject(projectId), Label.class).getDeletedCount();
+                projectLabelCache.invalidate(projectId);
+                return removed;
+            });
+            step(job, "sequences", () -> sequenceService.delete(MemberService.memberCounter(projectId))
+                    + sequenceService.delete(TaskService.taskNumberCounter(projectId)));
+
+            mongoTemplate.updateFirst(byId(job), new Update()
+                    .set("status", CleanupStatus.COMPLETED)
+                    .unset("currentStep")
+                    .set("updatedAt", Instant.now())
+                    .set("completedAt", Instant.now()), ProjectCleanupJob.class);
+            log.info("Project {} cleaned up in {} ms", projectId, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (Exception e) {
+            boolean exhausted = job.getAttempts() >= maxAttempts;
+            // A job left PENDING is retried by resumeStalled once it goes stale
+            mongoTemplate.updateFirst(byId(job), new Update()
+                    .set("status", exhausted ? CleanupStatus.FAILED : CleanupStatus.PENDING)
+                    .set("lastError", String.valueOf(e.getMessage()))
+                    .set("updatedAt", Instant.now()), ProjectCleanupJob.class);
+            log.error("Cleanup of project {} failed (attempt {})", projectId, job.getAttempts(), e);
+        }
+    }
+
+    private void step(ProjectCleanupJob job, String name, LongSupplier action) {
+        if (job.getProgress().containsKey(name)) {
+            return;
+        }
+        mongoTemplate.updateFirst(byId(job), new Update()
+                .set("currentStep", name)
+                .set("updatedAt", Instant.now()), ProjectCleanupJob.class);
+
+        long affected = action.getAsLong();
+
+        job.getProgress().put(name, affected);
+        mongoTemplate.updateFirst(byId(job), new Update()
+                .set("progress." + name, affected)
+                .set("updatedAt", Instant.now()), ProjectCleanupJob.class);
+        log.info("Project {} cleanup: {} -> {}", job.getProjectId(), name, affected);
+    }
+
+    private long softDelete(Class<?> entityClass, String projectId, String flag) {
+        Query live = byProject(projectId).addCriteria(Criteria.where(flag).ne(true));
+        return mongoTemplate.updateMulti(live, new Update().set(flag, true), entityClass).getModifiedCount();
+    }
+
+    private long deleteComments(ProjectCleanupJob job) {
+        String projectId = job.getProjectId();
+        long removed = 0;
+        for (Class<?> parent : List.of(Task.class, ProjectDocument.class, Issue.class)) {
+            Query query = byProject(projectId);
+            query.fields().include("comments");
+
+            List<String> chunk = new ArrayList<>(COMMENT_CHUNK_SIZE);
+            try (Stream<Document> rows = mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(parent))) {
+                for (Iterator<Document> it = rows.iterator(); it.hasNext(); ) {
+                    List<?> commentIds = it.next().getList("comments", Object.class, List.of());
+                    for (Object commentId : commentIds) {
+                        chunk.add(String.valueOf(commentId));
+                        if (chunk.size() == COMMENT_CHUNK_SIZE) {
+                            removed += removeComments(chunk);
+                            chunk.clear();
+                            // A large project can take longer than stale-seconds; keep the claim alive
+                            heartbeat(job);
+                        }
+                    }
+                }
+            }
+            removed += removeComments(chunk);
+        }
+        return removed;
+    }
+
+    private void heartbeat(ProjectCleanupJob job) {
+        mongoTemplate.updateFirst(byId(job), new Update().set("updatedAt", Instant.now()), ProjectCleanupJob.class);
+    }
+
+    private long removeComments(List<String> commentIds) {
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.remove(new Query(Criteria.where("_id").in(commentIds)), Comment.class).getDeletedCount();
+    }
+
+    private static Query byProject(String projectId) {
+        return new Query(Criteria.where("projectId").is(projectId));
+    }
+
+    private static Query byId(ProjectCleanupJob job) {
+        return new Query(Criteria.where("_id").is(job.getId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
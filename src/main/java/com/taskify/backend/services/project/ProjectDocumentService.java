@@ -14,7 +14,6 @@ import com.taskify.backend.models.project.ProjectDocument;
 import com.taskify.backend.repository.project.*;
 import com.taskify.backend.services.shared.NotificationService;
 import com.taskify.backend.utils.ApiException;
-import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -33,6 +32,7 @@ public class ProjectDocumentService {
     private final MemberRepository memberRepository;
     private final CommentRepository commentRepository;
     private final NotificationService notificationService;
+    private final MembershipCache membershipCache;
     
     @Value("${frontend.url}")
     private String frontendUrl;
@@ -49,11 +49,10 @@ public class ProjectDocumentService {
             throw new ApiException("Invalid document ID", 400);
         }
         
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new ApiException("Project not found", 404));
-        
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
-            .orElseThrow(() -> new ApiException("Member not found", 404));
+        Member member = membershipCache.find(userId, projectId)
+            .orElseThrow(() -> projectRepository.existsById(projectId)
+                    ? new ApiException("Member not found", 404)
+                    : new ApiException("Project not found", 404));
         
         Map<String, Object> doc = projectDocumentRepository.getFullDocumentById(docId, member.getId())
             .orElseThrow(() -> new ApiException("Document not found", 404));
@@ -75,11 +74,10 @@ public class ProjectDocumentService {
         
         log.info("Getting documents - userId: {}, projectId: {}", userId, projectId);
         
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new ApiException("Project not found", 404));
-        
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
-            .orElseThrow(() -> new ApiException("Member not found", 404));
+        Member member = membershipCache.find(userId, projectId)
+            .orElseThrow(() -> projectRepository.existsById(projectId)
+                    ? new ApiException("Member not found", 404)
+                    : new ApiException("Project not found", 404));
         
         // Use custom repository method for complex aggregation with pagination
         Map<String, Object> paginatedDocs = projectDocumentRepository.getDocuments(projectId, member.getId(), query);
@@ -93,11 +91,10 @@ public class ProjectDocumentService {
         
         log.info("Creating document - userId: {}, projectId: {}", userId, projectId);
         
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new ApiException("Project not found", 404));
-        
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
-            .orElseThrow(() -> new ApiException("Member not found", 404));
+        Member member = membershipCache.find(userId, projectId)
+            .orElseThrow(() -> projectRepository.existsById(projectId)
+                    ? new ApiException("Member not found", 404)
+                    : new ApiException("Project not found", 404));
         
         ProjectDocument document = ProjectDocument.builder()
             .projectId(projectId)
@@ -126,11 +123,10 @@ public class ProjectDocumentService {
         
         log.info("Updating document - userId: {}, projectId: {}, docId: {}", userId, projectId, docId);
         
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new ApiException("Project not found", 404));
-        
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
-            .orElseThrow(() -> new ApiException("Member not found", 404));
+        Member member = membershipCache.find(userId, projectId)
+            .orElseThrow(() -> projectRepository.existsById(projectId)
+                    ? new ApiException("Member not found", 404)
+                    : new ApiException("Project not found", 404));
         
         ProjectDocument doc = projectDocumentRepository.findById(docId)
             .orElseThrow(() -> new ApiException("Document not found", 404));
@@ -163,7 +159,7 @@ public class ProjectDocumentService {
         
         log.info("Deleting document - userId: {}, projectId: {}, docId: {}", userId, projectId, docId);
         
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
+        Member member = membershipCache.find(userId, projectId)
             .orElseThrow(() -> new ApiException("Member not found", 404));
         
         ProjectDocument doc = projectDocumentRepository.findById(docId)
@@ -197,7 +193,7 @@ public class ProjectDocumentService {
             throw new ApiException("Cannot assign member to a non-published document", 400);
         }
         
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
+        Member member = membershipCache.find(userId, projectId)
             .orElseThrow(() -> new ApiException("Member not found", 404));
         
         // Check permissions
@@ -225,16 +221,12 @@ public class ProjectDocumentService {
         templateVariables.put("projectName", project.getName());
         templateVariables.put("documentName", doc.getTitle());
         
-        try {
-            notificationService.sendWithTemplate(
-                assignedMember.getEmail(),
-                "📄 New Document Assigned to You - " + doc.getTitle(),
-                "assigned-document",
-                templateVariables
-            );
-        } catch (MessagingException e) {
-            log.error("Failed to send document assignment email: {}", e.getMessage());
-        }
+        notificationService.sendWithTemplate(
+            assignedMember.getEmail(),
+            "📄 New Document Assigned to You - " + doc.getTitle(),
+            "assigned-document",
+            templateVariables
+        );
         
         // Create comment
         Comment comment = Comment.builder()
@@ -263,7 +255,7 @@ public class ProjectDocumentService {
         ProjectDocument doc = projectDocumentRepository.findById(docId)
             .orElseThrow(() -> new ApiException("Document not found", 404));
         
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
+        Member member = membershipCache.find(userId, projectId)
             .orElseThrow(() -> new ApiException("Member not found", 404));
         
         // Check permissions
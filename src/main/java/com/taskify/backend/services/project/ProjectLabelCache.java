@@ -0,0 +1,82 @@
+package com.taskify.backend.services.project;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskify.backend.models.project.Label;
+import com.taskify.backend.repository.project.LabelRepository;
+import com.taskify.backend.utils.CacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Each project's full label set, newest first, keyed by project id. Projects with more labels than
+ * {@code cache.labels.max-per-project} are remembered as uncacheable and served by the paged query instead.
+ * Cached labels are shared between requests and must be treated as read-only.
+ */
+@Slf4j
+@Component
+public class ProjectLabelCache {
+
+    static final Sort LABEL_ORDER = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "_id"));
+
+    private final LabelRepository labelRepository;
+    private final Cache<String, LabelSet> cache;
+    private final int maxLabelsPerProject;
+
+    public ProjectLabelCache(
+            LabelRepository labelRepository,
+            @Value("${cache.labels.max-projects:5000}") long maxProjects,
+            @Value("${cache.labels.max-per-project:200}") int maxLabelsPerProject,
+            @Value("${cache.labels.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.labelRepository = labelRepository;
+        this.maxLabelsPerProject = maxLabelsPerProject;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxProjects)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * The project's labels, or empty when the project has too many to cache and the caller should query instead.
+     */
+    public Optional<List<Label>> findByProjectId(String projectId) {
+        LabelSet labelSet = cache.get(projectId, this::load);
+        return Optional.ofNullable(labelSet.labels);
+    }
+
+    public void invalidate(String projectId) {
+        log.info("Invalidating cached labels of project {}", projectId);
+        cache.invalidate(projectId);
+    }
+
+    public Map<String, Object> stats() {
+        return CacheMetrics.describe(cache);
+    }
+
+    private LabelSet load(String projectId) {
+        // One row past the bound is enough to tell an oversized project apart
+        List<Label> labels = labelRepository.findByProjectId(projectId, LABEL_ORDER, Limit.of(maxLabelsPerProject + 1));
+        if (labels.size() > maxLabelsPerProject) {
+            return new LabelSet(null);
+        }
+        return new LabelSet(List.copyOf(labels));
+    }
+
+    private static class LabelSet {
+        private final List<Label> labels;
+
+        private LabelSet(List<Label> labels) {
+            this.labels = labels;
+        }
+    }
+}
@@ -6,10 +6,12 @@ import com.taskify.backend.models.auth.User;
 import com.taskify.backend.models.project.Label;
 import com.taskify.backend.models.project.Member;
 import com.taskify.backend.models.project.Project;
+import com.taskify.backend.models.project.ProjectCleanupJob;
 import com.taskify.backend.repository.auth.UserRepository;
 import com.taskify.backend.repository.project.LabelRepository;
 import com.taskify.backend.repository.project.MemberRepository;
 import com.taskify.backend.repository.project.ProjectRepository;
+import com.taskify.backend.services.shared.SequenceService;
 import com.taskify.backend.utils.ApiException;
 import com.taskify.backend.validators.project.ProjectIdQueryValidator;
 import com.taskify.backend.validators.project.ProjectIdValidator;
@@ -17,11 +19,16 @@ import com.taskify.backend.validators.project.ProjectValidator;
 import com.taskify.backend.validators.project.UpdateProjectValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -31,6 +38,11 @@ public class ProjectService {
     private final UserRepository userRepository;
     private final MemberRepository memberRepository;
     private final LabelRepository labelRepository;
+    private final ProjectLabelCache projectLabelCache;
+    private final MembershipCache membershipCache;
+    private final SequenceService sequenceService;
+    private final ProjectCleanupService projectCleanupService;
+    private final MongoTemplate mongoTemplate;
 
     public Map<String, Object> getProject(User user, ProjectIdQueryValidator query) {
         log.info("User Info :: {}", user);
@@ -39,7 +51,7 @@ public class ProjectService {
         String userId = user.getId();
         String projectId = query.getProjectId();
 
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
+        Member member = membershipCache.find(userId, projectId)
                 .orElseThrow(() -> new ApiException("Member not found", HttpStatus.BAD_REQUEST.value()));
 
         if (!InvitationStatus.ACCEPTED.equals(member.getInvitationStatus())) {
@@ -79,25 +91,33 @@ public class ProjectService {
         User existingUser = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        List<Project> allProjects = projectRepository.findByUserId(userId);
-
+        long projectLimit;
         switch (user.getPricingModel()) {
             case FREE:
-                if (allProjects.size() >= 1)
-                    throw new ApiException("You can only create one project. Please upgrade your plan.", HttpStatus.BAD_REQUEST.value());
+                projectLimit = 1;
                 break;
             case PREMIUM:
-                if (allProjects.size() >= 10)
-                    throw new ApiException("You can only create 10 projects. Please upgrade your plan.", HttpStatus.BAD_REQUEST.value());
+                projectLimit = 10;
                 break;
             case ENTERPRISE:
-                if (allProjects.size() >= 25)
-                    throw new ApiException("You can only create 25 projects. Please contact support.", HttpStatus.BAD_REQUEST.value());
+                projectLimit = 25;
                 break;
             default:
                 throw new ApiException("Invalid pricing model.", HttpStatus.BAD_REQUEST.value());
         }
 
+        // Conditional increment of the per-user counter, so concurrent creates cannot exceed the plan
+        if (!sequenceService.tryAcquire(projectCounter(userId), projectLimit, () -> projectRepository.countByUserIdAndIsDeletedNot(userId, true))) {
+            switch (user.getPricingModel()) {
+                case FREE:
+                    throw new ApiException("You can only create one project. Please upgrade your plan.", HttpStatus.BAD_REQUEST.value());
+                case PREMIUM:
+                    throw new ApiException("You can only create 10 projects. Please upgrade your plan.", HttpStatus.BAD_REQUEST.value());
+                default:
+                    throw new ApiException("You can only create 25 projects. Please contact support.", HttpStatus.BAD_REQUEST.value());
+            }
+        }
+
         // ✅ Store only userId as String
         Project newProject = Project.builder()
                 .name(project.getName())
@@ -107,7 +127,12 @@ public class ProjectService {
                 .isDeleted(false)
                 .build();
 
-        newProject = projectRepository.save(newProject);
+        try {
+            newProject = projectRepository.save(newProject);
+        } catch (RuntimeException e) {
+            sequenceService.release(projectCounter(userId));
+            throw e;
+        }
 
         createDefaultLabels(newProject);
 
@@ -119,6 +144,7 @@ public class ProjectService {
                 .invitationStatus(InvitationStatus.ACCEPTED)
                 .role(MemberRole.OWNER)
                 .build();
+        // The member counter is not seeded here: the first invite seeds it from the saved members, owner included
         memberRepository.save(owner);
 
         return Map.of("project", newProject);
@@ -147,6 +173,7 @@ public class ProjectService {
         );
 
         labelRepository.saveAll(defaultLabels);
+        projectLabelCache.invalidate(project.getId());
     }
 
     public Map<String, Object> updateProject(User user, UpdateProjectValidator project) {
@@ -161,7 +188,7 @@ public class ProjectService {
                         HttpStatus.NOT_FOUND.value()
                 ));
 
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
+        Member member = membershipCache.find(userId, projectId)
                 .orElseThrow(() -> new ApiException(
                         "Member not found",
                         HttpStatus.BAD_REQUEST.value()
@@ -208,17 +235,56 @@ public class ProjectService {
             throw new ApiException("You are not allowed to delete this project", HttpStatus.FORBIDDEN.value());
         }
 
-        project.setDeleted(true);
-        projectRepository.save(project);
+        // Conditional, so two concurrent deletes cannot both give the project slot back
+        long deleted = mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(projectId).and("isDeleted").ne(true)),
+                new Update().set("isDeleted", true),
+                Project.class
+        ).getModifiedCount();
+        if (deleted == 0) {
+            throw new ApiException("Project already deleted", HttpStatus.BAD_REQUEST.value());
+        }
+        sequenceService.release(projectCounter(userId));
+
+        // Memberships are revoked right away, in one write; the rest of the project is cascaded in the background
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("projectId").is(projectId)),
+                new Update()
+                        .set("invitationStatus", InvitationStatus.REJECTED)
+                        .set("updatedAt", Instant.now()),
+                Member.class
+        );
+        membershipCache.invalidateProject(projectId);
+
+        ProjectCleanupJob cleanupJob = projectCleanupService.schedule(projectId, userId);
 
-        List<Member> members = memberRepository.findByProjectId(projectId);
+        return Map.of("projectId", projectId, "cleanupJobId", cleanupJob.getId());
+    }
+
+    public Map<String, Object> getProjectCleanup(User user, ProjectIdQueryValidator query) {
+        String projectId = query.getProjectId();
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ApiException("Project not found", HttpStatus.NOT_FOUND.value()));
+
+        if (!project.getUserId().equals(user.getId())) {
+            throw new ApiException("You are not allowed to view this project", HttpStatus.FORBIDDEN.value());
+        }
 
-        members.forEach(member -> {
-            member.setInvitationStatus(InvitationStatus.REJECTED);
-            memberRepository.save(member);
-        });
+        ProjectCleanupJob job = projectCleanupService.findLatest(projectId)
+                .orElseThrow(() -> new ApiException("No cleanup found for this project", HttpStatus.NOT_FOUND.value()));
 
-        return Map.of("projectId", projectId);
+        Map<String, Object> response = new HashMap<>();
+        response.put("jobId", job.getId());
+        response.put("projectId", job.getProjectId());
+        response.put("status", job.getStatus());
+        response.put("currentStep", job.getCurrentStep());
+        response.put("progress", job.getProgress());
+        response.put("attempts", job.getAttempts());
+        response.put("lastError", job.getLastError());
+        response.put("createdAt", job.getCreatedAt());
+        response.put("completedAt", job.getCompletedAt());
+        return response;
     }
 
     public Map<String, Object> getProjects(User user) {
@@ -232,17 +298,29 @@ public class ProjectService {
 
         log.info("Members found: {}", members.size());
 
+        // Batch 1: live projects of those memberships (deleted ones are skipped in the query)
+        Map<String, Project> projectsById = new HashMap<>();
+        projectRepository.findByIdInAndIsDeletedNot(
+                        members.stream().map(Member::getProjectId).collect(Collectors.toSet()), true)
+                .forEach(project -> projectsById.put(project.getId(), project));
+
+        // Batch 2: their owners
+        Map<String, User> ownersById = new HashMap<>();
+        userRepository.findAllById(projectsById.values().stream()
+                        .map(Project::getUserId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .forEach(owner -> ownersById.put(owner.getId(), owner));
+
         List<Map<String, Object>> projects = members.stream()
                 .map(member -> {
-                    Project project = projectRepository.findById(member.getProjectId())
-                            .orElse(null);
+                    Project project = projectsById.get(member.getProjectId());
 
-                    if (project == null || project.isDeleted()) {
+                    if (project == null) {
                         return null;
                     }
 
-                    User owner = userRepository.findById(project.getUserId())
-                            .orElse(null);
+                    User owner = project.getUserId() != null ? ownersById.get(project.getUserId()) : null;
 
                     Map<String, Object> projectData = new HashMap<>();
                     projectData.put("projectId", project.getId());
@@ -273,4 +351,8 @@ public class ProjectService {
         log.info("Projects after filtering: {}", projects.size());
         return Map.of("projects", projects);
     }
-}
\ No newline at end of file
+
+    private static String projectCounter(String userId) {
+        return "projects:" + userId;
+    }
+}
@@ -0,0 +1,203 @@
+package com.taskify.backend.services.project;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.backend.models.auth.User;
+import com.taskify.backend.models.project.Member;
+import com.taskify.backend.models.project.Task;
+import com.taskify.backend.repository.project.MemberHydrator;
+import com.taskify.backend.utils.ApiException;
+import com.taskify.backend.validators.project.ExportTasksValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Streams all live tasks of a project as NDJSON or CSV. Tasks are read over a cursor and written in chunks, each
+ * chunk resolving its creators and assignees with one {@link MemberHydrator} round trip, so memory stays bounded by
+ * the chunk size however large the project is.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final List<String> CSV_COLUMNS = List.of(
+            "taskNumber", "id", "title", "description", "status", "priority", "taskType", "dueDate",
+            "completedDate", "createdBy", "assignees", "createdAt", "updatedAt"
+    );
+
+    private final MongoTemplate mongoTemplate;
+    private final MemberHydrator memberHydrator;
+    private final MembershipCache membershipCache;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Checks access up front, while errors can still become a regular API response, and returns the body that
+     * writes the export once the response is committed.
+     */
+    public StreamingResponseBody exportTasks(User user, ExportTasksValidator query) {
+        String userId = user.getId();
+        String projectId = query.getProjectId();
+        boolean csv = "csv".equals(query.getFormat());
+
+        membershipCache.find(userId, projectId)
+                .orElseThrow(() -> new ApiException("Member not found", 404));
+
+        log.info("Exporting tasks of project {} as {} for user {}", projectId, query.getFormat(), userId);
+
+        return outputStream -> {
+            long started = System.currentTimeMillis();
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (csv) {
+                writeCsvRow(writer, CSV_COLUMNS);
+            }
+
+            long exported = 0;
+            List<Task> chunk = new ArrayList<>(CHUNK_SIZE);
+            try (Stream<Task> tasks = mongoTemplate.stream(exportQuery(projectId), Task.class)) {
+                for (Iterator<Task> it = tasks.iterator(); it.hasNext(); ) {
+                    chunk.add(it.next());
+                    if (chunk.size() == CHUNK_SIZE) {
+                        exported += writeChunk(writer, chunk, csv);
+                        chunk.clear();
+                    }
+                }
+            }
+            exported += writeChunk(writer, chunk, csv);
+            writer.flush();
+
+            log.info("Exported {} tasks of project {} in {} ms", exported, projectId, System.currentTimeMillis() - started);
+        };
+    }
+
+    private static Query exportQuery(String projectId) {
+        // Same filter as getTasks, but oldest first for reports; project_deleted_created serves the sort in reverse
+        Query query = new Query(Criteria.where("projectId").is(projectId).and("isDeleted").is(false))
+                .with(Sort.by(Sort.Direction.ASC, "createdAt", "_id"))
+                .cursorBatchSize(CHUNK_SIZE);
+        query.fields().include("taskNumber", "title", "description", "status", "priority", "taskType", "dueDate",
+                "completedDate", "memberId", "assignees", "createdAt", "updatedAt");
+        return query;
+    }
+
+    private int writeChunk(Writer writer, List<Task> chunk, boolean csv) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Set<String> memberIds = new HashSet<>();
+        for (Task task : chunk) {
+            memberIds.add(task.getMemberId());
+            if (task.getAssignees() != null) {
+                memberIds.addAll(task.getAssignees());
+            }
+        }
+        memberIds.remove(null);
+        MemberHydrator.Members members = memberHydrator.hydrate(memberIds);
+
+        for (Task task : chunk) {
+            if (csv) {
+                writeCsvRow(writer, csvRow(task, members));
+            } else {
+                writer.write(objectMapper.writeValueAsString(jsonRow(task, members)));
+                writer.write('\n');
+            }
+        }
+        // Hand each chunk to the client instead of holding it in the buffer
+        writer.flush();
+        return chunk.size();
+    }
+
+    private static Map<String, Object> jsonRow(Task task, MemberHydrator.Members members) {
+        List<Map<String, Object>> assignees = new ArrayList<>();
+        for (String assigneeId : assigneesOf(task)) {
+            assignees.add(memberView(assigneeId, members));
+        }
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", task.getId());
+        row.put("taskNumber", task.getTaskNumber());
+        row.put("title", task.getTitle());
+        row.put("description", task.getDescription());
+        row.put("status", task.getStatus());
+        row.put("priority", task.getPriority());
+        row.put("taskType", task.getTaskType());
+        row.put("dueDate", task.getDueDate());
+        row.put("completedDate", task.getCompletedDate());
+        row.put("createdBy", task.getMemberId() != null ? memberView(task.getMemberId(), members) : null);
+        row.put("assignees", assignees);
+        row.put("createdAt", task.getCreatedAt());
+        row.put("updatedAt", task.getUpdatedAt());
+        return row;
+    }
+
+    private static Map<String, Object> memberView(String memberId, MemberHydrator.Members members) {
+        Member member = members.member(memberId);
+        User user = members.user(member);
+
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("memberId", memberId);
+        view.put("email", member != null ? member.getEmail() : null);
+        view.put("fullName", user != null ? user.getFullName() : null);
+        return view;
+    }
+
+    private static List<Object> csvRow(Task task, MemberHydrator.Members members) {
+        StringJoiner assignees = new StringJoiner(";");
+        for (String assigneeId : assigneesOf(task)) {
+            Member assignee = members.member(assigneeId);
+            assignees.add(assignee != null && assignee.getEmail() != null ? assignee.getEmail() : assigneeId);
+        }
+        Member creator = members.member(task.getMemberId());
+
+        return Arrays.asList(
+                task.getTaskNumber(), task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getPriority(), task.getTaskType(), task.getDueDate(), task.getCompletedDate(),
+                creator != null ? creator.getEmail() : task.getMemberId(), assignees.toString(),
+                task.getCreatedAt(), task.getUpdatedAt()
+        );
+    }
+
+    private static List<String> assigneesOf(Task task) {
+        return task.getAssignees() != null ? task.getAssignees() : List.of();
+    }
+
+    private static void writeCsvRow(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        // Spreadsheets evaluate cells starting with these as formulas (CSV injection)
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
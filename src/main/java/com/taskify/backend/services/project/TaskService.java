@@ -3,25 +3,32 @@ package com.taskify.backend.services.project;
 import com.taskify.backend.constants.CommentEnums.CommentType;
 import com.taskify.backend.constants.MemberEnums.MemberRole;
 import com.taskify.backend.constants.MemberEnums.InvitationStatus;
+import com.taskify.backend.constants.TaskEnums.TaskBulkAction;
 import com.taskify.backend.constants.TaskEnums.TaskStatus;
 import com.taskify.backend.models.auth.User;
 import com.taskify.backend.models.project.Comment;
 import com.taskify.backend.models.project.Member;
-import com.taskify.backend.models.project.Project;
+import com.taskify.backend.models.project.MemberTaskStats;
 import com.taskify.backend.models.project.Task;
+import com.taskify.backend.models.project.TaskActivity;
+import com.taskify.backend.models.project.TaskCompletionDay;
 import com.taskify.backend.repository.project.*;
 import com.taskify.backend.services.shared.NotificationService;
+import com.taskify.backend.services.shared.SequenceService;
 import com.taskify.backend.utils.ApiException;
+import com.taskify.backend.utils.PageCursor;
 import com.taskify.backend.validators.project.*;
-import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.*;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -38,8 +45,18 @@ public class TaskService {
     private final ProjectRepository projectRepository;
     private final MemberRepository memberRepository;
     private final CommentRepository commentRepository;
+    private final TaskActivityRepository taskActivityRepository;
     private final MongoTemplate mongoTemplate;
     private final NotificationService notificationService;
+    private final SequenceService sequenceService;
+    private final TaskStatsService taskStatsService;
+    private final MembershipCache membershipCache;
+
+    // Newest comments embedded in getTask; the rest are paged through getTaskComments
+    private static final int TASK_DETAIL_COMMENT_LIMIT = 20;
+
+    private static final String[] BULK_TASK_FIELDS =
+            {"projectId", "memberId", "assignees", "status", "completedDate", "isDeleted"};
 
     @Value("${frontend.url}")
     private String frontendUrl;
@@ -49,16 +66,12 @@ public class TaskService {
         log.info("Creating task for user {}", userId);
         log.info("Creating task task {}", task);
 
-        Optional<Project> projectOpt = projectRepository.findById(task.getProjectId());
-        if (projectOpt.isEmpty()) {
-            throw new ApiException("Project not found", 404);
-        }
-
-        Project project = projectOpt.get();
-        log.info("Creating task project {}", project);
-
-        Optional<Member> memberOpt = memberRepository.findByUserIdAndProjectId(userId, task.getProjectId());
+        Optional<Member> memberOpt = membershipCache.find(userId, task.getProjectId());
         if (memberOpt.isEmpty()) {
+            // Only read the project to tell a missing project from a missing membership
+            if (!projectRepository.existsById(task.getProjectId())) {
+                throw new ApiException("Project not found", 404);
+            }
             throw new ApiException("Member not found", 404);
         }
 
@@ -84,17 +97,24 @@ public class TaskService {
                 .memberId(member.getId())
                 .build();
         taskRepository.save(newTask);
+        taskStatsService.recordCreated(newTask);
         return Map.of(
                 "taskId", newTask
         );
     }
 
     public Integer getTaskNumber(String projectId) {
-        Optional<Task> latestTask = taskRepository.findTopByProjectIdOrderByTaskNumberDesc(projectId);
+        return getTaskNumbers(projectId, 1);
+    }
+
+    // Reserves a block of task numbers in one atomic $inc and returns the first
+    public Integer getTaskNumbers(String projectId, int count) {
+        long first = sequenceService.reserve(taskNumberCounter(projectId), count, () ->
+                taskRepository.findTopByProjectIdOrderByTaskNumberDesc(projectId)
+                        .map(Task::getTaskNumber)
+                        .orElse(0));
 
-        return latestTask
-                .map(task -> task.getTaskNumber() + 1)
-                .orElse(1);
+        return (int) first;
     }
 
     public Map<String,Object> updateTask(User user, UpdateTaskValidator task) {
@@ -105,13 +125,14 @@ public class TaskService {
         log.info("Updating task {} for user {}", taskId, userId);
         log.info("Updating task {} ", task);
 
-        Optional<Member> memberOpt = memberRepository.findByUserIdAndProjectId(userId, task.getProjectId());
+        Optional<Member> memberOpt = membershipCache.find(userId, task.getProjectId());
         if (memberOpt.isEmpty()) {
             throw new ApiException("Member not found", 404);
         }
         Member member = memberOpt.get();
 
-        Optional<Task> existingTaskOpt = taskRepository.findById(taskId);
+        // Only what the checks below need; the write itself is a targeted $set
+        Optional<Task> existingTaskOpt = findTaskFields(taskId, "memberId", "subTasks");
         if(existingTaskOpt.isEmpty()) {
             throw new ApiException("Task not found", 404);
         }
@@ -124,42 +145,48 @@ public class TaskService {
         if (task.getStatus() == TaskStatus.COMPLETED) {
             task.setCompletedDate(LocalDate.now());
         }
-        Task updatedTask = taskRepository.save(Task.builder()
-                .id(taskId)
-                .title(task.getTitle() != null ? task.getTitle() : existingTask.getTitle())
-                .description(task.getDescription() != null ? task.getDescription() : existingTask.getDescription())
-                .status(task.getStatus() != null ? task.getStatus() : existingTask.getStatus())
-                .priority(task.getPriority() != null ? task.getPriority() : existingTask.getPriority())
-                .dueDate(task.getDueDate() != null ? task.getDueDate() : existingTask.getDueDate())
-                .subTasks(task.getSubTasks() != null ? task.getSubTasks() : existingTask.getSubTasks())
-                .completedDate(task.getCompletedDate() != null ? task.getCompletedDate() : existingTask.getCompletedDate())
-                .memberId(existingTask.getMemberId())
-                .projectId(existingTask.getProjectId())
-                .build());
-
 
         boolean isSubtaskAdded = task.getSubTasks() != null &&
                 task.getSubTasks().size() != (existingTask.getSubTasks() != null
                         ? existingTask.getSubTasks().size()
                         : 0);
 
+        // Only the fields sent by the client are written; assignees, comments and the rest are left untouched
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfPresent(changes, "title", task.getTitle());
+        putIfPresent(changes, "description", task.getDescription());
+        putIfPresent(changes, "status", task.getStatus());
+        putIfPresent(changes, "priority", task.getPriority());
+        putIfPresent(changes, "dueDate", task.getDueDate());
+        putIfPresent(changes, "subTasks", task.getSubTasks());
+        putIfPresent(changes, "completedDate", task.getCompletedDate());
+        if (task.getStatus() != null && task.getStatus() != TaskStatus.COMPLETED) {
+            // null unsets the field: a task moved out of COMPLETED has no completion date
+            changes.put("completedDate", null);
+        }
 
-        if (!isSubtaskAdded) {
-            Comment comment = new Comment();
-            comment.setContent("Task updated by " + fullName);
-            comment.setMemberId(member.getId());
-            comment.setCommentType(CommentType.COMMENT_UPDATED);
-
-            Comment createdComment = commentRepository.save(comment);
+        // A plain member may only edit their own tasks; the check is part of the write itself
+        String creatorId = member.getRole().equals(MemberRole.MEMBER) ? member.getId() : null;
+        Task previousTask = taskRepository.updateDetails(taskId, task.getProjectId(), creatorId, changes)
+                .orElseThrow(() -> taskRepository.existsLive(taskId, null)
+                        ? new ApiException("You are not allowed to update this task", 403)
+                        : new ApiException("Task not found", 404));
+
+        // Stats from the pre-image plus exactly what this write changed
+        TaskStatsService.TaskSnapshot before = taskStatsService.snapshot(previousTask);
+        if (task.getStatus() != null) {
+            previousTask.setStatus(task.getStatus());
+        }
+        if (changes.containsKey("completedDate")) {
+            previousTask.setCompletedDate((LocalDate) changes.get("completedDate"));
+        }
+        taskStatsService.recordChange(before, previousTask);
 
-            List<String> comments = updatedTask.getComments();
-            if (comments == null) {
-                comments = new ArrayList<>();
-            }
-            comments.add(createdComment.getId());
-            updatedTask.setComments(comments);
+        // The client gets the task as stored now, including the new updatedAt
+        Task updatedTask = taskRepository.findById(taskId).orElse(previousTask);
 
-            taskRepository.save(updatedTask);
+        if (!isSubtaskAdded) {
+            recordActivity(updatedTask, member, CommentType.COMMENT_UPDATED, "Task updated by " + fullName);
         }
 
         log.info("Task {} updated successfully by {}", taskId, fullName);
@@ -177,18 +204,13 @@ public class TaskService {
         String taskId = query.getTaskId();
         log.info("Getting task {} for user {} project {}", taskId, userId, projectId);
 
-        Optional<Member> memberOpt = memberRepository.findByUserIdAndProjectId(userId, projectId);
+        Optional<Member> memberOpt = membershipCache.find(userId, projectId);
         if (memberOpt.isEmpty()) {
             throw new ApiException("Member not found", 404);
         }
         Member member = memberOpt.get();
 
-        Optional<Project> projectOpt = projectRepository.findById(projectId);
-        if (projectOpt.isEmpty()) {
-            throw new ApiException("Project not found", 404);
-        }
-
-        Optional<Map<String, Object>> taskOpt = taskRepository.getTaskWithComments(taskId, member.getId());
+        Optional<Map<String, Object>> taskOpt = taskRepository.getTaskWithComments(taskId, member.getId(), TASK_DETAIL_COMMENT_LIMIT);
         if (taskOpt.isEmpty()) {
             throw new ApiException("Task not found", 404);
         }
@@ -199,6 +221,25 @@ public class TaskService {
         );
     }
 
+    public Map<String, Object> getTaskComments(User user, GetTaskCommentsValidator query) {
+        String userId = user.getId();
+        String projectId = query.getProjectId();
+        String taskId = query.getTaskId();
+        log.info("Getting comments of task {} for user {} project {}", taskId, userId, projectId);
+
+        Member member = membershipCache.find(userId, projectId)
+                .orElseThrow(() -> new ApiException("Member not found", 404));
+
+        Task task = taskRepository.findById(taskId)
+                .filter(t -> projectId.equals(t.getProjectId()) && !Boolean.TRUE.equals(t.getIsDeleted()))
+                .orElseThrow(() -> new ApiException("Task not found", 404));
+
+        List<String> commentIds = task.getComments() != null ? task.getComments() : List.of();
+
+        return taskRepository.getTaskComments(taskId, commentIds, query.getCommentType(), query.getCursor(),
+                query.getLimit(), member.getId());
+    }
+
     public Map<String, Object> getTasks(User user, GetTasksValidator query) {
         String userId = user.getId();
         String projectId = query.getProjectId();
@@ -207,13 +248,24 @@ public class TaskService {
         log.info("Query filters: {}", query);
 
         // Validate user is a member of the project
-        Optional<Member> memberOpt = memberRepository.findByUserIdAndProjectId(userId, projectId);
+        Optional<Member> memberOpt = membershipCache.find(userId, projectId);
         if (memberOpt.isEmpty()) {
             throw new ApiException("Member not found", 404);
         }
         Member member = memberOpt.get();
         String memberId = member.getId();
 
+        Sort.Direction direction = query.getSortByCreated() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        if (query.getCursor() != null) {
+            return getTasksByCursor(buildTaskCriteria(projectId, memberId, query), "createdAt", direction,
+                    memberId, query.getCursor(), query.getLimit());
+        }
+
+        if (query.getPaginate()) {
+            return getPaginatedTasks(buildTaskCriteria(projectId, memberId, query), "createdAt", direction,
+                    memberId, query.getPage(), query.getLimit());
+        }
+
         // Fetch tasks with applied filters
         List<Document> tasks = getTasksByProjectIdAndMemberId(projectId, memberId, query);
 
@@ -225,23 +277,105 @@ public class TaskService {
     }
 
     public List<Document> getTasksByProjectIdAndMemberId(String projectId, String memberId, GetTasksValidator filters) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.match(buildTaskCriteria(projectId, memberId, filters)));
+        stages.add(Aggregation.sort(filters.getSortByCreated() ? Sort.Direction.ASC : Sort.Direction.DESC, "createdAt"));
+        stages.addAll(taskLookupStages(memberId));
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(stages), "tasks", Document.class).getMappedResults();
+    }
+
+    private Map<String, Object> getPaginatedTasks(Criteria criteria, String sortField, Sort.Direction direction,
+                                                  String memberId, int page, int limit) {
+        // Only the requested page goes through the lookups; the count branch never leaves the match
+        List<AggregationOperation> pageStages = new ArrayList<>();
+        pageStages.add(Aggregation.skip((long) (page - 1) * limit));
+        pageStages.add(Aggregation.limit(limit));
+        pageStages.addAll(taskLookupStages(memberId));
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.sort(Sort.by(direction, sortField).and(Sort.by(direction, "_id"))),
+                Aggregation.facet(pageStages.toArray(new AggregationOperation[0])).as("tasks")
+                        .and(Aggregation.count().as("total")).as("metadata")
+        );
+
+        Document result = mongoTemplate.aggregate(aggregation, "tasks", Document.class).getUniqueMappedResult();
+
+        List<Document> tasks = result != null ? result.getList("tasks", Document.class) : List.of();
+        List<Document> metadata = result != null ? result.getList("metadata", Document.class) : List.of();
+        int total = metadata.isEmpty() ? 0 : ((Number) metadata.get(0).get("total")).intValue();
+
+        return buildPage("tasks", tasks, total, page, limit);
+    }
+
+    private Map<String, Object> getTasksByCursor(Criteria criteria, String sortField, Sort.Direction direction,
+                                                 String memberId, String cursor, int limit) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.match(criteria));
+        if (!cursor.isEmpty()) {
+            stages.add(Aggregation.match(PageCursor.decode(cursor).after(sortField, direction)));
+        }
+        stages.add(Aggregation.sort(Sort.by(direction, sortField).and(Sort.by(direction, "_id"))));
+        // One extra row tells us whether another page exists without a count
+        stages.add(Aggregation.limit(limit + 1));
+        stages.addAll(taskLookupStages(memberId));
+
+        List<Document> tasks = mongoTemplate.aggregate(Aggregation.newAggregation(stages), "tasks", Document.class)
+                .getMappedResults();
+
+        boolean hasNextPage = tasks.size() > limit;
+        List<Document> pageTasks = hasNextPage ? tasks.subList(0, limit) : tasks;
+        String nextCursor = null;
+        if (hasNextPage) {
+            Document last = pageTasks.get(pageTasks.size() - 1);
+            nextCursor = PageCursor.of(last.get(sortField), last.get("_id")).encode();
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("tasks", pageTasks);
+        result.put("limit", limit);
+        result.put("hasNextPage", hasNextPage);
+        result.put("nextCursor", nextCursor);
+        return result;
+    }
+
+    private void recordActivity(Task task, Member member, CommentType type, String content) {
+        taskActivityRepository.insert(TaskActivity.builder()
+                .taskId(task.getId())
+                .projectId(task.getProjectId())
+                .memberId(member.getId())
+                .type(type)
+                .content(content)
+                .build());
+    }
+
+    private static void putIfPresent(Map<String, Object> changes, String field, Object value) {
+        if (value != null) {
+            changes.put(field, value);
+        }
+    }
+
+    private Optional<Task> findTaskFields(String taskId, String... fields) {
+        Query query = new Query(Criteria.where("_id").is(taskId));
+        query.fields().include(fields);
+        return Optional.ofNullable(mongoTemplate.findOne(query, Task.class));
+    }
 
+    private Criteria buildTaskCriteria(String projectId, String memberId, GetTasksValidator filters) {
         String title = filters.getTitle();
-        boolean createdByMe = filters.getCreatedByMe();
-        boolean assignedToMe = filters.getAssignedToMe();
         String priority = filters.getPriority();
         String status = filters.getStatus();
-        boolean sortByCreated = filters.getSortByCreated();
 
         Criteria criteria = Criteria.where("projectId").is(projectId)
                 .and("isDeleted").is(false)
                 .and("title").regex(title != null ? title : "", "i");
 
-        if (createdByMe) {
+        if (filters.getCreatedByMe()) {
             criteria.and("memberId").is(memberId);
         }
 
-        if (assignedToMe) {
+        if (filters.getAssignedToMe()) {
             criteria.and("assignees").in(memberId);
         }
 
@@ -253,9 +387,11 @@ public class TaskService {
             criteria.and("status").is(status);
         }
 
-        Aggregation aggregation = Aggregation.newAggregation(
-                Aggregation.match(criteria),
+        return criteria;
+    }
 
+    private List<AggregationOperation> taskLookupStages(String memberId) {
+        return List.of(
                 // Convert memberId to ObjectId for creator lookup
                 Aggregation.addFields()
                         .addField("memberObjectId").withValue(
@@ -294,6 +430,13 @@ public class TaskService {
                 // ✅ Lookup members using converted ObjectIds
                 Aggregation.lookup("members", "assigneeObjectIds", "_id", "membersDetails"),
 
+                // Activity events count as comments, the same as in getTask. An equality lookup on the string id,
+                // so every server version serves it from the task_created index
+                Aggregation.addFields()
+                        .addField("taskIdString").withValue(new Document("$toString", "$_id"))
+                        .build(),
+                Aggregation.lookup("task_activity", "taskIdString", "taskId", "activity"),
+
                 // ✅ Map members to simplified structure
                 Aggregation.addFields()
                         .addFieldWithValue("members",
@@ -302,13 +445,14 @@ public class TaskService {
                                         .append("in", new Document(
                                                 "_id", new Document("$toString", "$$member._id"))
                                                 .append("email", "$$member.email"))))
-                        .addFieldWithValue("commentCount", new Document("$size", "$comments"))
+                        .addFieldWithValue("commentCount", new Document("$add", Arrays.asList(
+                                new Document("$size", new Document("$ifNull", Arrays.asList("$comments", List.of()))),
+                                new Document("$size", "$activity"))))
                         .build(),
 
                 Aggregation.project("projectId", "title", "description", "status", "priority",
                                 "dueDate", "completedDate", "subTasks", "taskType", "taskNumber",
                                 "isDeleted", "comments", "members", "commentCount", "createdAt")
-
                         .andExpression("{$toString: '$_id'}").as("_id")
                         .andExpression("{$toString: '$creator._id'}").as("creator.memberId")
                         .and("creator.email").as("creator.email")
@@ -316,16 +460,12 @@ public class TaskService {
                         .and("user.fullName").as("creator.fullName")
                         .and("user.avatar").as("creator.avatar"),
 
-                Aggregation.sort(sortByCreated ? Sort.Direction.ASC : Sort.Direction.DESC, "createdAt"),
-
                 // Add isMember flag
                 Aggregation.addFields()
                         .addFieldWithValue("isMember",
                                 new Document("$in", Arrays.asList(memberId, "$members._id")))
                         .build()
         );
-
-        return mongoTemplate.aggregate(aggregation, "tasks", Document.class).getMappedResults();
     }
 
     public Map<String, Object> changeStatus(User user, ChangeStatusValidator body) {
@@ -335,38 +475,25 @@ public class TaskService {
         String taskId = body.getTaskId();
         TaskStatus newStatus = body.getStatus();
 
-        // 1️⃣ Get existing task
-        Task existingTask = taskRepository.findById(taskId)
+        // 1️⃣ Get the task's project, to resolve the caller's membership
+        Task existingTask = findTaskFields(taskId, "projectId")
                 .orElseThrow(() -> new ApiException("Task not found", 404));
 
-        Member member = memberRepository.findByUserIdAndProjectId(userId, existingTask.getProjectId())
+        Member member = membershipCache.find(userId, existingTask.getProjectId())
                 .orElseThrow(() -> new ApiException("Member not found", 404));
 
-        TaskStatus oldStatus = existingTask.getStatus();
-        existingTask.setStatus(newStatus);
-
-        if (TaskStatus.COMPLETED.equals(oldStatus)) {
-            existingTask.setCompletedDate(LocalDate.now());
-        }
-
-        taskRepository.save(existingTask);
-
-        Comment statusComment = new Comment();
-        statusComment.setContent("Updated status: " + oldStatus + " → " + newStatus);
-        statusComment.setMemberId(member.getId());
-        statusComment.setCommentType(CommentType.STATUS_UPDATED);
-        statusComment.setCreatedAt(Instant.now());
-
-        Comment createdComment = commentRepository.save(statusComment);
+        LocalDate completedDate = TaskStatus.COMPLETED.equals(newStatus) ? LocalDate.now() : null;
+        Task previousTask = taskRepository.changeStatus(taskId, existingTask.getProjectId(), newStatus, completedDate)
+                .orElseThrow(() -> new ApiException("Task not found", 404));
 
-        if (TaskStatus.COMPLETED.equals(newStatus)) {
-            existingTask.setCompletedDate(LocalDate.now());
-        } else {
-            existingTask.setCompletedDate(null);
-        }
-        existingTask.getComments().add(createdComment.getId());
+        TaskStatsService.TaskSnapshot before = taskStatsService.snapshot(previousTask);
+        TaskStatus oldStatus = previousTask.getStatus();
+        previousTask.setStatus(newStatus);
+        previousTask.setCompletedDate(completedDate);
+        taskStatsService.recordChange(before, previousTask);
 
-        taskRepository.save(existingTask);
+        recordActivity(previousTask, member, CommentType.STATUS_UPDATED,
+                "Updated status: " + oldStatus + " → " + newStatus);
 
         log.info("Status updated successfully for task {}: {} → {}", taskId, oldStatus, newStatus);
 
@@ -396,46 +523,37 @@ public class TaskService {
         // If projectId is provided, fetch the member in that project
         Member member = null;
         if (projectId != null && !projectId.isEmpty()) {
-            member = memberRepository.findByUserIdAndProjectId(userId, projectId)
+            member = membershipCache.find(userId, projectId)
                     .orElseThrow(() -> new ApiException("Member not found for user in project", 404));
         }
 
-        String memberId = member != null ? member.getId() : null;
+        // Materialized counters of the member, or of all the user's accepted memberships
+        List<String> memberIds = member != null
+                ? List.of(member.getId())
+                : memberRepository.findByUserIdAndInvitationStatus(userId, InvitationStatus.ACCEPTED).stream()
+                        .map(Member::getId)
+                        .toList();
+
+        Map<String, Long> assignedByStatus = new HashMap<>();
+        long createdCount = 0;
+        for (MemberTaskStats stats : taskStatsService.findByMemberIds(memberIds)) {
+            stats.getAssigned().forEach((status, count) -> assignedByStatus.merge(status, count, Long::sum));
+            createdCount += stats.getCreated();
+        }
 
-        // Fetch assigned tasks
-        List<Map<String, Object>> assignedTasks;
-        if (memberId != null) {
-            // If projectId is provided, filter by project
-            assignedTasks = taskRepository.getUserAssignedTasks(memberId, projectId);
-        } else {
-            List<Member> members = memberRepository.findByUserIdAndInvitationStatus(userId, InvitationStatus.ACCEPTED);
-            List<String> memberIds = members.stream().map(Member::getId).toList();
-            assignedTasks = taskRepository.getUserAssignedTasksAllProjects(memberIds);
-        }
-
-        List<String> availableStatuses = List.of("TODO", "IN_PROGRESS", "UNDER_REVIEW", "COMPLETED");
-        List<Map<String, Object>> tasksByStatus = availableStatuses.stream()
-                .map(status -> {
-                    Map<String, Object> found = assignedTasks.stream()
-                            .filter(t -> t.get("status").equals(status))
-                            .findFirst()
-                            .orElse(Map.of("status", status, "count", 0));
-                    return Map.of(
-                            "status", found.get("status"),
-                            "count", found.get("count")
-                    );
-                })
+        // A negative counter is drift: findByMemberIds logs it and rebuilds the project, the response shows zero
+        List<Map<String, Object>> tasksByStatus = Arrays.stream(TaskStatus.values())
+                .map(status -> Map.<String, Object>of(
+                        "status", status.name(),
+                        "count", Math.max(0, assignedByStatus.getOrDefault(status.name(), 0L))
+                ))
                 .toList();
 
-        // Tasks created by the user (all projects)
-        Map<String, Object> createdTasks;
-        if (memberId != null) {
-            createdTasks = taskRepository.getUserCreatedTask(memberId).orElse(Map.of("taskCount", 0));
-        } else {
-            List<Member> members = memberRepository.findByUserIdAndInvitationStatus(userId, InvitationStatus.ACCEPTED);
-            List<String> memberIds = members.stream().map(Member::getId).toList();
-            createdTasks = taskRepository.getUserCreatedTaskAllProjects(memberIds).orElse(Map.of("taskCount", 0));
+        Map<String, Object> createdTasks = new HashMap<>();
+        if (member != null) {
+            createdTasks.put("memberId", member.getId());
         }
+        createdTasks.put("taskCount", Math.max(0, createdCount));
 
         return Map.of(
                 "tasks", tasksByStatus,
@@ -444,58 +562,43 @@ public class TaskService {
     }
 
     public List<Map<String, Object>> getLast30DaysTasks(User user, ValidateProjectIdQuery query) {
+        GetCompletionHistoryValidator history = new GetCompletionHistoryValidator();
+        history.setProjectId(query.getProjectId());
+        history.setDays(30);
+        return getCompletionHistory(user, history);
+    }
+
+    /**
+     * Completed tasks per day over the last {@code days} full days in UTC (ending yesterday, like the original
+     * 30-day chart), read from the daily rollup: one row per day for a project, or one per day and membership
+     * across all of the user's projects.
+     */
+    public List<Map<String, Object>> getCompletionHistory(User user, GetCompletionHistoryValidator query) {
         String userId = user.getId();
         String projectId = query.getProjectId();
 
-        // 1️⃣ Calculate last 30 days range in UTC
-        ZonedDateTime todayUTC = ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS);
-        ZonedDateTime last30DaysUTC = todayUTC.minusDays(30);
-
-        Date fromDate = Date.from(last30DaysUTC.toInstant());
-        Date toDate = Date.from(todayUTC.toInstant());
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate from = today.minusDays(query.getDays());
 
-        // 2️⃣ Fetch member(s)
-        List<Member> members;
+        Map<String, Long> completions;
         if (projectId != null && !projectId.isEmpty()) {
-            Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
+            membershipCache.find(userId, projectId)
                     .orElseThrow(() -> new ApiException("Member not found for user in project", 404));
-            members = List.of(member);
-        } else {
-            members = memberRepository.findByUserIdAndInvitationStatus(userId, InvitationStatus.ACCEPTED);
-        }
-        List<String> memberIds = members.stream().map(Member::getId).toList();
-
-        // 3️⃣ Fetch tasks from repository
-        List<Map<String, Object>> tasks;
-        if (projectId != null && !projectId.isEmpty()) {
-            tasks = taskRepository.getLast30DaysTasksByProject(fromDate, projectId);
+            completions = taskStatsService.completionsByDay(projectId, List.of(TaskCompletionDay.PROJECT_TOTAL), from);
         } else {
-            tasks = taskRepository.getLast30DaysTasksAllProjects(fromDate, memberIds);
+            List<String> memberIds = memberRepository.findByUserIdAndInvitationStatus(userId, InvitationStatus.ACCEPTED)
+                    .stream().map(Member::getId).toList();
+            completions = taskStatsService.completionsByDay(null, memberIds, from);
         }
 
-        // 4️⃣ Prepare map for last 30 days
-        Map<String, Long> resultMap = new LinkedHashMap<>();
-        for (int i = 0; i < 30; i++) {
-            LocalDate date = last30DaysUTC.toLocalDate().plusDays(i);
-            resultMap.put(date.toString(), 0L);
+        List<Map<String, Object>> resultList = new ArrayList<>(query.getDays());
+        for (LocalDate date = from; date.isBefore(today); date = date.plusDays(1)) {
+            String day = date.toString();
+            resultList.add(Map.of(
+                    "completedDate", day,
+                    "count", completions.getOrDefault(day, 0L)
+            ));
         }
-
-        // 5️⃣ Count completed tasks per day (UTC)
-        tasks.forEach(task -> {
-            Date completedDate = (Date) task.get("completedDate");
-            LocalDate dateUTC = completedDate.toInstant().atZone(ZoneOffset.UTC).toLocalDate();
-            String key = dateUTC.toString();
-            resultMap.put(key, resultMap.getOrDefault(key, 0L) + 1);
-        });
-
-        // 6️⃣ Convert map to list
-        List<Map<String, Object>> resultList = resultMap.entrySet().stream()
-                .map(entry -> Map.<String, Object>of(
-                        "completedDate", entry.getKey(),
-                        "count", entry.getValue()
-                ))
-                .toList();
-
         return resultList;
     }
 
@@ -508,14 +611,10 @@ public class TaskService {
         log.info("User info {}",user);
         log.info("Project info {}",body);
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ApiException("Project not found",404));
-
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ApiException("Task not found",404));
-
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
-                .orElseThrow(() -> new ApiException("Member not found",404));
+        Member member = membershipCache.find(userId, projectId)
+                .orElseThrow(() -> projectRepository.existsById(projectId)
+                        ? new ApiException("Member not found",404)
+                        : new ApiException("Project not found",404));
 
         if (member.getRole().equals(MemberRole.MEMBER)) {
             throw new ApiException("You are not allowed to assign members to tasks",403);
@@ -524,16 +623,30 @@ public class TaskService {
         Member assignedMember = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ApiException("Assignee not found",404));
 
-        if (task.getAssignees() != null && task.getAssignees().contains(memberId)) {
-            throw new ApiException("Member is assigned already",400);
-        }
+        // One write: the member is pushed only if not assigned yet
+        Task task = taskRepository.addAssignee(taskId, projectId, memberId)
+                .orElseThrow(() -> taskRepository.existsLive(taskId, projectId)
+                        ? new ApiException("Member is assigned already",400)
+                        : new ApiException("Task not found",404));
 
+        TaskStatsService.TaskSnapshot before = taskStatsService.snapshot(task);
         if (task.getAssignees() == null) {
             task.setAssignees(new ArrayList<>());
         }
         task.getAssignees().add(memberId);
-        taskRepository.save(task);
+        taskStatsService.recordChange(before, task);
+
+        notifyAssignee(user, projectId, taskId, assignedMember);
+
+        recordActivity(task, member, CommentType.ASSIGNED_MEMBER, "Assigned member: " + assignedMember.getEmail());
+
+        return Map.of(
+                "taskId", taskId,
+                "memberId", memberId
+        );
+    }
 
+    private void notifyAssignee(User user, String projectId, String taskId, Member assignedMember) {
         String frontendTaskLink = String.format("%s/dashboard/workspace/%s/tasks/%s",
                 frontendUrl, projectId, taskId);
 
@@ -542,38 +655,311 @@ public class TaskService {
         templateVariables.put("projectAdminName", user.getFullName());
         templateVariables.put("link", frontendTaskLink);
 
-        try {
-            notificationService.sendWithTemplate(
-                    assignedMember.getEmail(),
-                    "New Task Assigned to You",
-                    "assigned-task",
-                    templateVariables
-            );
-        } catch (MessagingException e) {
-            log.error("Failed to send assigned task email: {}", e.getMessage());
-            throw new ApiException("Failed to send assigned task email", HttpStatus.INTERNAL_SERVER_ERROR.value());
+        notificationService.sendWithTemplate(
+                assignedMember.getEmail(),
+                "New Task Assigned to You",
+                "assigned-task",
+                templateVariables
+        );
+    }
+
+    /**
+     * Applies a batch of status changes, (un)assignments and deletions with one permission check, one read of the
+     * tasks and assignees involved, one insert of the activity events and one stats write. Operations are replayed
+     * in order against the loaded tasks and each task's net change is then written in one unordered bulk write,
+     * conditioned on the state the batch was computed from; operations that cannot apply are reported back instead
+     * of failing the whole batch. Deletions record no activity event, as in deleteTask: a deleted task's timeline is
+     * never shown again.
+     */
+    public Map<String, Object> bulkUpdateTasks(User user, BulkTaskOperationsValidator body) {
+        String userId = user.getId();
+        String projectId = body.getProjectId();
+        List<BulkTaskOperationsValidator.Operation> operations = body.getOperations();
+
+        log.info("Applying {} bulk task operations - userId: {}, projectId: {}", operations.size(), userId, projectId);
+
+        // 1️⃣ Permissions, once for the whole batch
+        Member member = membershipCache.find(userId, projectId)
+                .orElseThrow(() -> new ApiException("Member not found", 404));
+        boolean isPlainMember = member.getRole() == MemberRole.MEMBER;
+        boolean changesAssignees = operations.stream().anyMatch(op -> op.getAction() == TaskBulkAction.ASSIGN_MEMBER
+                || op.getAction() == TaskBulkAction.REMOVE_ASSIGNED_MEMBER);
+        if (isPlainMember && changesAssignees) {
+            throw new ApiException("You are not allowed to assign members to tasks", 403);
         }
 
-        Comment comment = new Comment();
-        comment.setContent("Assigned member: " + assignedMember.getEmail());
-        comment.setMemberId(member.getId());
-        comment.setCommentType(CommentType.ASSIGNED_MEMBER);
-        comment.setCreatedAt(Instant.now());
-        comment.setUpdatedAt(Instant.now());
-        comment = commentRepository.save(comment);
+        // 2️⃣ The batch's tasks and assignees, one query each
+        Set<String> taskIds = new HashSet<>();
+        Set<String> assigneeIds = new HashSet<>();
+        for (BulkTaskOperationsValidator.Operation op : operations) {
+            taskIds.add(op.getTaskId());
+            if (op.getMemberId() != null) {
+                assigneeIds.add(op.getMemberId());
+            }
+        }
+        Query taskQuery = new Query(Criteria.where("_id").in(taskIds)
+                .and("projectId").is(projectId)
+                .and("isDeleted").ne(true));
+        taskQuery.fields().include(BULK_TASK_FIELDS);
+        Map<String, Task> tasksById = new HashMap<>();
+        mongoTemplate.find(taskQuery, Task.class).forEach(task -> tasksById.put(task.getId(), task));
+
+        Map<String, Member> assigneesById = new HashMap<>();
+        memberRepository.findAllById(assigneeIds).forEach(assignee -> {
+            if (projectId.equals(assignee.getProjectId())) {
+                assigneesById.put(assignee.getId(), assignee);
+            }
+        });
+
+        // 3️⃣ Replay the operations against the loaded state
+        Map<String, BulkTaskChange> changes = new LinkedHashMap<>();
+        List<Map<String, Object>> failed = new ArrayList<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            BulkTaskOperationsValidator.Operation op = operations.get(i);
+            Task task = tasksById.get(op.getTaskId());
+            if (task == null || Boolean.TRUE.equals(task.getIsDeleted())) {
+                failed.add(bulkFailure(i, op, "Task not found"));
+                continue;
+            }
+            BulkTaskChange change = changes.computeIfAbsent(task.getId(),
+                    id -> new BulkTaskChange(task, taskStatsService.snapshot(task)));
+            if (task.getAssignees() == null) {
+                task.setAssignees(new ArrayList<>());
+            }
+            Member assignee = op.getMemberId() != null ? assigneesById.get(op.getMemberId()) : null;
+
+            BulkTaskChange.Applied applied = new BulkTaskChange.Applied(i, op);
+            String error = null;
+            switch (op.getAction()) {
+                case CHANGE_STATUS -> {
+                    if (op.getStatus() == null) {
+                        error = "Task status required";
+                        break;
+                    }
+                    applied.activity(CommentType.STATUS_UPDATED, "Updated status: " + task.getStatus() + " → " + op.getStatus());
+                    task.setStatus(op.getStatus());
+                    task.setCompletedDate(TaskStatus.COMPLETED.equals(op.getStatus()) ? LocalDate.now() : null);
+                }
+                case ASSIGN_MEMBER -> {
+                    if (assignee == null) {
+                        error = "Assignee not found";
+                    } else if (task.getAssignees().contains(assignee.getId())) {
+                        error = "Member is assigned already";
+                    } else {
+                        task.getAssignees().add(assignee.getId());
+                        applied.activity(CommentType.ASSIGNED_MEMBER, "Assigned member: " + assignee.getEmail());
+                        applied.notify = assignee;
+                    }
+                }
+                case REMOVE_ASSIGNED_MEMBER -> {
+                    if (assignee == null) {
+                        error = "Assignee member not found";
+                    } else if (!task.getAssignees().remove(assignee.getId())) {
+                        error = "Member is not assigned";
+                    } else {
+                        applied.activity(CommentType.REMOVE_ASSIGNED_MEMBER, "Removed assigned member: " + assignee.getEmail());
+                    }
+                }
+                case DELETE -> {
+                    if (isPlainMember && !member.getId().equals(task.getMemberId())) {
+                        error = "You are not allowed to delete this task";
+                    } else {
+                        task.setIsDeleted(true);
+                    }
+                }
+            }
+
+            if (error != null) {
+                failed.add(bulkFailure(i, op, error));
+            } else {
+                change.applied.add(applied);
+            }
+        }
+
+        // 4️⃣ Two unordered bulk writes. The first holds each task's net change as one updateOne, conditioned on the
+        // status the batch was computed from; the second the $pullAll of tasks that also gained assignees, as
+        // $addToSet and $pull cannot target the same field in one update. Every write stamps the same updatedAt,
+        // which tells the tasks that matched apart when the matched count comes up short.
+        LocalDateTime writtenAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        BulkOperations writes = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        List<BulkTaskChange> toWrite = new ArrayList<>();
+        List<BulkTaskChange.Applied> written = new ArrayList<>();
+
+        for (BulkTaskChange change : changes.values()) {
+            Task task = change.task;
+            if (change.applied.isEmpty()) {
+                continue;
+            }
+
+            Criteria filter = Criteria.where("_id").is(task.getId())
+                    .and("projectId").is(projectId)
+                    .and("isDeleted").ne(true)
+                    .and("status").is(change.originalStatus);
+            Update update = new Update();
+
+            if (Boolean.TRUE.equals(task.getIsDeleted())) {
+                // Nothing else about a task deleted later in the batch is written, announced or recorded
+                for (BulkTaskChange.Applied applied : change.applied) {
+                    if (applied.op.getAction() != TaskBulkAction.DELETE) {
+                        failed.add(bulkFailure(applied.index, applied.op, "Task is deleted later in this batch"));
+                    }
+                }
+                change.applied.removeIf(applied -> applied.op.getAction() != TaskBulkAction.DELETE);
+                update.set("isDeleted", true);
+                if (isPlainMember) {
+                    filter.and("memberId").is(member.getId());
+                }
+            } else {
+                if (!Objects.equals(task.getStatus(), change.originalStatus)) {
+                    update.set("status", task.getStatus());
+                    if (task.getCompletedDate() != null) {
+                        update.set("completedDate", task.getCompletedDate());
+                    } else {
+                        update.unset("completedDate");
+                    }
+                }
+                change.added.addAll(task.getAssignees());
+                change.added.removeAll(change.originalAssignees);
+                change.removed.addAll(change.originalAssignees);
+                change.removed.removeAll(task.getAssignees());
+                if (!change.added.isEmpty()) {
+                    update.addToSet("assignees").each(change.added.toArray());
+                } else if (!change.removed.isEmpty()) {
+                    update.pullAll("assignees", change.removed.toArray());
+                }
+            }
 
-        if (task.getComments() == null) {
-            task.setComments(new ArrayList<>());
+            if (update.getUpdateObject().isEmpty()) {
+                // e.g. a status changed and changed back; nothing to write, but the operations did apply
+                written.addAll(change.applied);
+                continue;
+            }
+            writes.updateOne(new Query(filter), update.set("updatedAt", writtenAt));
+            toWrite.add(change);
+        }
+
+        Set<String> unmatched = new HashSet<>();
+        if (!toWrite.isEmpty() && writes.execute().getMatchedCount() < toWrite.size()) {
+            unmatched.addAll(findUnwritten(toWrite, writtenAt));
+        }
+
+        BulkOperations pulls = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        List<BulkTaskChange> toPull = new ArrayList<>();
+        for (BulkTaskChange change : toWrite) {
+            if (unmatched.contains(change.task.getId())) {
+                change.applied.forEach(applied -> failed.add(bulkFailure(applied.index, applied.op,
+                        "Task was changed or deleted concurrently")));
+                change.applied.clear();
+            } else if (!change.added.isEmpty() && !change.removed.isEmpty()) {
+                pulls.updateOne(new Query(Criteria.where("_id").is(change.task.getId())
+                                .and("projectId").is(projectId)
+                                .and("isDeleted").ne(true)),
+                        new Update().pullAll("assignees", change.removed.toArray()).set("updatedAt", writtenAt));
+                toPull.add(change);
+            }
+        }
+        if (!toPull.isEmpty() && pulls.execute().getMatchedCount() < toPull.size()) {
+            // Only a task deleted in between misses its $pullAll; its removals are reported as failed
+            Set<String> live = findLive(toPull);
+            for (BulkTaskChange change : toPull) {
+                if (live.contains(change.task.getId())) {
+                    continue;
+                }
+                change.task.getAssignees().addAll(change.removed);
+                change.applied.removeIf(applied -> {
+                    boolean removal = applied.op.getAction() == TaskBulkAction.REMOVE_ASSIGNED_MEMBER;
+                    if (removal) {
+                        failed.add(bulkFailure(applied.index, applied.op, "Task was changed or deleted concurrently"));
+                    }
+                    return removal;
+                });
+            }
+        }
+
+        // Stats from the loaded state to the state the batch wrote
+        List<TaskStatsService.TaskSnapshot> before = new ArrayList<>();
+        List<Task> after = new ArrayList<>();
+        int matchedTasks = 0;
+        for (BulkTaskChange change : toWrite) {
+            if (unmatched.contains(change.task.getId())) {
+                continue;
+            }
+            matchedTasks++;
+            before.add(change.before);
+            after.add(change.task);
+            written.addAll(change.applied);
+        }
+        taskStatsService.recordChanges(before, after);
+
+        // 5️⃣ Activity and notifications only for what was actually written
+        List<TaskActivity> activities = new ArrayList<>();
+        for (BulkTaskChange.Applied applied : written) {
+            if (applied.activityType != null) {
+                activities.add(TaskActivity.builder()
+                        .taskId(applied.op.getTaskId())
+                        .projectId(projectId)
+                        .memberId(member.getId())
+                        .type(applied.activityType)
+                        .content(applied.activityContent)
+                        .build());
+            }
+        }
+        if (!activities.isEmpty()) {
+            taskActivityRepository.insert(activities);
+        }
+        for (BulkTaskChange.Applied applied : written) {
+            if (applied.notify != null) {
+                notifyAssignee(user, projectId, applied.op.getTaskId(), applied.notify);
+            }
         }
-        task.getComments().add(comment.getId());
-        taskRepository.save(task);
+
+        failed.sort(Comparator.comparingInt(failure -> (Integer) failure.get("index")));
+        log.info("Bulk task operations applied - projectId: {}, applied: {}, failed: {}",
+                projectId, written.size(), failed.size());
 
         return Map.of(
-                "taskId", taskId,
-                "memberId", memberId
+                "projectId", projectId,
+                "applied", written.size(),
+                "failed", failed,
+                "matchedTasks", matchedTasks
         );
     }
 
+    /**
+     * Ids of the bulk-written tasks that do not carry the batch's updatedAt stamp, i.e. whose write did not match.
+     */
+    private Set<String> findUnwritten(List<BulkTaskChange> changes, LocalDateTime writtenAt) {
+        Set<String> unwritten = new HashSet<>();
+        changes.forEach(change -> unwritten.add(change.task.getId()));
+        Query query = new Query(Criteria.where("_id").in(unwritten).and("updatedAt").is(writtenAt));
+        query.fields().include("_id");
+        mongoTemplate.find(query, Task.class).forEach(task -> unwritten.remove(task.getId()));
+        return unwritten;
+    }
+
+    private Set<String> findLive(List<BulkTaskChange> changes) {
+        Query query = new Query(Criteria.where("_id").in(changes.stream().map(change -> change.task.getId()).toList())
+                .and("isDeleted").ne(true));
+        query.fields().include("_id");
+        Set<String> live = new HashSet<>();
+        mongoTemplate.find(query, Task.class).forEach(task -> live.add(task.getId()));
+        return live;
+    }
+
+    static String taskNumberCounter(String projectId) {
+        return "taskNumber:" + projectId;
+    }
+
+    private static Map<String, Object> bulkFailure(int index, BulkTaskOperationsValidator.Operation op, String message) {
+        Map<String, Object> failure = new HashMap<>();
+        failure.put("index", index);
+        failure.put("taskId", op.getTaskId());
+        failure.put("action", op.getAction());
+        failure.put("message", message);
+        return failure;
+    }
+
     public Map<String,Object> deleteTask(User user, ValidateTaskId query){
         String userId = user.getId();
         String projectId = query.getProjectId();
@@ -581,19 +967,19 @@ public class TaskService {
 
         log.info("Deleting task: userId={}, taskId={}, projectId={}", userId, taskId, projectId);
 
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
+        Member member = membershipCache.find(userId, projectId)
                 .orElseThrow(() -> new ApiException("Member not found", 404));
 
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ApiException("Task not found", 404));
-
-        if (member.getRole().equals(MemberRole.MEMBER)
-                && !task.getMemberId().equals(member.getId())) {
-            throw new ApiException("You are not allowed to delete this task", 403);
-        }
+        // A plain member may only delete their own tasks; the check is part of the write itself
+        String creatorId = member.getRole().equals(MemberRole.MEMBER) ? member.getId() : null;
+        Task previousTask = taskRepository.markDeleted(taskId, projectId, creatorId)
+                .orElseThrow(() -> taskRepository.existsLive(taskId, projectId)
+                        ? new ApiException("You are not allowed to delete this task", 403)
+                        : new ApiException("Task not found", 404));
 
-        task.setIsDeleted(true);
-        taskRepository.save(task);
+        TaskStatsService.TaskSnapshot before = taskStatsService.snapshot(previousTask);
+        previousTask.setIsDeleted(true);
+        taskStatsService.recordChange(before, previousTask);
 
         log.info("Task {} marked as deleted by user {}", taskId, userId);
 
@@ -610,10 +996,7 @@ public class TaskService {
 
         log.info("Removing assigned member - userId: {}, taskId: {}, memberId: {}", userId, taskId, memberId);
 
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ApiException("Task not found", 404));
-
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
+        Member member = membershipCache.find(userId, projectId)
                 .orElseThrow(() -> new ApiException("Member not found", 404));
 
         if (member.getRole() == MemberRole.MEMBER) {
@@ -623,23 +1006,17 @@ public class TaskService {
         Member assignedMember = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ApiException("Assignee member not found", 404));
 
-        if (!task.getAssignees().contains(memberId)) {
-            throw new ApiException("Member is not assigned", 400);
-        }
+        Task task = taskRepository.removeAssignee(taskId, projectId, memberId)
+                .orElseThrow(() -> taskRepository.existsLive(taskId, projectId)
+                        ? new ApiException("Member is not assigned", 400)
+                        : new ApiException("Task not found", 404));
 
+        TaskStatsService.TaskSnapshot before = taskStatsService.snapshot(task);
         task.getAssignees().remove(memberId);
-        taskRepository.save(task);
-
-        Comment comment = new Comment();
-        comment.setContent("Removed assigned member: " + assignedMember.getEmail());
-        comment.setMemberId(member.getId());
-        comment.setCommentType(CommentType.REMOVE_ASSIGNED_MEMBER);
-        comment.setCreatedAt(Instant.now());
-        comment.setUpdatedAt(Instant.now());
-        comment = commentRepository.save(comment);
+        taskStatsService.recordChange(before, task);
 
-        task.getComments().add(comment.getId());
-        taskRepository.save(task);
+        recordActivity(task, member, CommentType.REMOVE_ASSIGNED_MEMBER,
+                "Removed assigned member: " + assignedMember.getEmail());
 
         return Map.of(
                 "taskId", taskId,
@@ -657,7 +1034,7 @@ public class TaskService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ApiException("Task not found", 404));
 
-        Member member = memberRepository.findByUserIdAndProjectId(userId, task.getProjectId())
+        Member member = membershipCache.find(userId, task.getProjectId())
                 .orElseThrow(() -> new ApiException("Member not found", 404));
 
         Comment comment = new Comment();
@@ -668,8 +1045,11 @@ public class TaskService {
         comment.setUpdatedAt(Instant.now());
         comment = commentRepository.save(comment);
 
-        task.getComments().add(comment.getId());
-        taskRepository.save(task);
+        if (taskRepository.addComment(taskId, comment.getId()).isEmpty()) {
+            // The task was deleted in the meantime
+            commentRepository.delete(comment);
+            throw new ApiException("Task not found", 404);
+        }
 
         return Map.of("commentId", comment.getId());
     }
@@ -684,7 +1064,7 @@ public class TaskService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ApiException("Task not found", 404));
 
-        Member member = memberRepository.findByUserIdAndProjectId(userId, task.getProjectId())
+        Member member = membershipCache.find(userId, task.getProjectId())
                 .orElseThrow(() -> new ApiException("Member not found", 404));
 
         Comment comment = commentRepository.findById(commentId)
@@ -694,8 +1074,8 @@ public class TaskService {
             throw new ApiException("You have no permissions to remove this comment", 403);
         }
 
-        task.getComments().remove(commentId);
-        taskRepository.save(task);
+        taskRepository.removeComment(taskId, commentId)
+                .orElseThrow(() -> new ApiException("Task not found", 404));
 
         return Map.of("commentId", commentId);
     }
@@ -711,7 +1091,7 @@ public class TaskService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ApiException("Task not found", 404));
 
-        Member member = memberRepository.findByUserIdAndProjectId(userId, task.getProjectId())
+        Member member = membershipCache.find(userId, task.getProjectId())
                 .orElseThrow(() -> new ApiException("Member not found", 404));
 
         Comment comment = commentRepository.findById(commentId)
@@ -734,7 +1114,7 @@ public class TaskService {
 
         log.info("Getting completed tasks - userId: {}, projectId: {}", userId, projectId);
 
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
+        Member member = membershipCache.find(userId, projectId)
                 .orElseThrow(() -> new ApiException("Member not found", 404));
 
         return getCompletedTasksByProjectIdAndMemberId(projectId, member.getId(), query);
@@ -745,8 +1125,6 @@ public class TaskService {
         boolean createdByMe = filters.getCreatedByMe();
         boolean assignedToMe = filters.getAssignedToMe();
         String priority = filters.getPriority();
-        int page = filters.getPage();
-        int limit = filters.getLimit();
 
         Criteria criteria = Criteria.where("projectId").is(projectId)
                 .and("isDeleted").is(false)
@@ -765,81 +1143,21 @@ public class TaskService {
             criteria.and("priority").is(priority);
         }
 
-        Aggregation aggregation = Aggregation.newAggregation(
-                Aggregation.match(criteria),
-
-                Aggregation.addFields()
-                        .addField("memberObjectId").withValue(
-                                new Document("$convert", new Document("input", "$memberId")
-                                        .append("to", "objectId")
-                                        .append("onError", "$memberId")
-                                )
-                        ).build(),
-
-                Aggregation.lookup("members", "memberObjectId", "_id", "creator"),
-                Aggregation.unwind("creator", true),
-
-                Aggregation.addFields()
-                        .addField("userObjectId").withValue(
-                                new Document("$convert", new Document("input", "$creator.userId")
-                                        .append("to", "objectId")
-                                        .append("onError", "$creator.userId")
-                                )
-                        ).build(),
-
-                Aggregation.lookup("users", "userObjectId", "_id", "user"),
-                Aggregation.unwind("user", true),
-
-                Aggregation.addFields()
-                        .addField("assigneeObjectIds").withValue(
-                                new Document("$map", new Document("input", "$assignees")
-                                        .append("as", "id")
-                                        .append("in", new Document("$convert", new Document("input", "$id")
-                                                .append("to", "objectId")
-                                                .append("onError", "$id")))
-                                )
-                        ).build(),
-
-                Aggregation.lookup("members", "assigneeObjectIds", "_id", "membersDetails"),
-
-                Aggregation.addFields()
-                        .addFieldWithValue("members",
-                                new Document("$map", new Document("input", "$membersDetails")
-                                        .append("as", "member")
-                                        .append("in", new Document(
-                                                "_id", new Document("$toString", "$member._id"))
-                                                .append("email", "$member.email"))))
-                        .addFieldWithValue("commentCount", new Document("$size", "$comments"))
-                        .build(),
-
-                Aggregation.project("projectId", "title", "description", "status", "priority",
-                                "dueDate", "completedDate", "subTasks", "taskType", "taskNumber",
-                                "isDeleted", "comments", "members", "commentCount")
-                        .andExpression("{$toString: '$_id'}").as("_id")
-                        .andExpression("{$toString: '$creator._id'}").as("creator.memberId")
-                        .and("creator.email").as("creator.email")
-                        .and("creator.role").as("creator.role")
-                        .and("user.fullName").as("creator.fullName")
-                        .and("user.avatar").as("creator.avatar"),
-
-                Aggregation.sort(Sort.Direction.DESC, "completedDate"),
-
-                Aggregation.addFields()
-                        .addFieldWithValue("isMember",
-                                new Document("$in", Arrays.asList(memberId, "$members._id")))
-                        .build()
-        );
+        if (filters.getCursor() != null) {
+            return getTasksByCursor(criteria, "completedDate", Sort.Direction.DESC,
+                    memberId, filters.getCursor(), filters.getLimit());
+        }
 
-        List<Document> tasks = mongoTemplate.aggregate(aggregation, "tasks", Document.class).getMappedResults();
+        return getPaginatedTasks(criteria, "completedDate", Sort.Direction.DESC,
+                memberId, filters.getPage(), filters.getLimit());
+    }
 
-        int total = tasks.size();
+    private Map<String, Object> buildPage(String key, List<?> items, int total, int page, int limit) {
         int totalPages = (int) Math.ceil((double) total / limit);
         int start = (page - 1) * limit;
-        int end = Math.min(start + limit, total);
-        List<Document> paginatedTasks = start < total ? tasks.subList(start, end) : List.of();
 
         Map<String, Object> result = new HashMap<>();
-        result.put("tasks", paginatedTasks);
+        result.put(key, items);
         result.put("total", total);
         result.put("limit", limit);
         result.put("page", page);
@@ -852,4 +1170,43 @@ public class TaskService {
 
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * Per-task state of a bulk request: the state the batch started from, the task as the batch leaves it, and the
+     * operations that applied to it.
+     */
+    private static class BulkTaskChange {
+        private final Task task;
+        private final TaskStatsService.TaskSnapshot before;
+        private final TaskStatus originalStatus;
+        private final List<String> originalAssignees;
+        private final List<String> added = new ArrayList<>();
+        private final List<String> removed = new ArrayList<>();
+        private final List<Applied> applied = new ArrayList<>();
+
+        private BulkTaskChange(Task task, TaskStatsService.TaskSnapshot before) {
+            this.task = task;
+            this.before = before;
+            this.originalStatus = task.getStatus();
+            this.originalAssignees = task.getAssignees() != null ? new ArrayList<>(task.getAssignees()) : new ArrayList<>();
+        }
+
+        private static class Applied {
+            private final int index;
+            private final BulkTaskOperationsValidator.Operation op;
+            private CommentType activityType;
+            private String activityContent;
+            private Member notify;
+
+            private Applied(int index, BulkTaskOperationsValidator.Operation op) {
+                this.index = index;
+                this.op = op;
+            }
+
+            private void activity(CommentType type, String content) {
+                this.activityType = type;
+                this.activityContent = content;
+            }
+        }
+    }
+}
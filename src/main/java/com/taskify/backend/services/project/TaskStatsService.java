@@ -0,0 +1,386 @@
+package com.taskify.backend.services.project;
+
+import com.taskify.backend.constants.TaskEnums.TaskStatus;
+import com.taskify.backend.models.project.MemberTaskStats;
+import com.taskify.backend.models.project.Task;
+import com.taskify.backend.models.project.TaskCompletionDay;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the per-member dashboard counters (member_task_stats) and the daily completion rollup
+ * (task_completion_daily) up to date. Callers snapshot a task before changing it and report the new state
+ * afterwards; the difference between the two is applied as $inc deltas in bulk writes. A failed delta is only
+ * logged, the nightly rebuild recomputes everything from the tasks themselves; a negative counter read in between
+ * is logged and has its project rebuilt right away.
+ */
+@Slf4j
+@Service
+public class TaskStatsService {
+
+    private static final String ASSIGNED_PREFIX = "assigned.";
+
+    // Bump when the counters change shape or meaning; the next startup then rebuilds them once
+    private static final int STATS_VERSION = 2;
+    private static final String META_COLLECTION = "task_stats_meta";
+    private static final String VERSION_MARKER_ID = "version";
+
+    private final MongoTemplate mongoTemplate;
+    // Startup backfill and drift repairs, one at a time
+    private final ExecutorService executor;
+    private final Set<String> repairing = ConcurrentHashMap.newKeySet();
+
+    public TaskStatsService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public TaskSnapshot snapshot(Task task) {
+        return TaskSnapshot.of(task);
+    }
+
+    public void recordCreated(Task task) {
+        recordChange(TaskSnapshot.NONE, task);
+    }
+
+    public void recordChange(TaskSnapshot before, Task after) {
+        Deltas deltas = new Deltas();
+        contribute(deltas, before, -1);
+        contribute(deltas, TaskSnapshot.of(after), 1);
+        apply(deltas);
+    }
+
+    /**
+     * Same as {@link #recordChange} for a batch of tasks, written in one go. Both lists are index-aligned.
+     */
+    public void recordChanges(List<TaskSnapshot> before, List<Task> after) {
+        Deltas deltas = new Deltas();
+        for (int i = 0; i < before.size(); i++) {
+            contribute(deltas, before.get(i), -1);
+            contribute(deltas, TaskSnapshot.of(after.get(i)), 1);
+        }
+        apply(deltas);
+    }
+
+    public List<MemberTaskStats> findByMemberIds(Collection<String> memberIds) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+        List<MemberTaskStats> stats = mongoTemplate.find(new Query(Criteria.where("_id").in(memberIds)), MemberTaskStats.class);
+        stats.stream()
+                .filter(TaskStatsService::hasNegativeCounter)
+                .map(MemberTaskStats::getProjectId)
+                .distinct()
+                .forEach(this::repairDrift);
+        return stats;
+    }
+
+    // Counters only go below zero when a delta was lost or applied twice
+    private static boolean hasNegativeCounter(MemberTaskStats stats) {
+        return stats.getCreated() < 0 || stats.getAssigned().values().stream().anyMatch(count -> count < 0);
+    }
+
+    private void repairDrift(String projectId) {
+        if (projectId == null || !repairing.add(projectId)) {
+            return;
+        }
+        log.warn("Negative task counters in project {}, rebuilding its statistics", projectId);
+        executor.execute(() -> {
+            try {
+                rebuildProject(projectId);
+            } catch (Exception e) {
+                log.error("Failed to rebuild task statistics of project {}", projectId, e);
+            } finally {
+                repairing.remove(projectId);
+            }
+        });
+    }
+
+    /**
+     * Completed-task counts per day since {@code from} (inclusive), summed over the given rollup members. Use
+     * {@link TaskCompletionDay#PROJECT_TOTAL} together with a project id for the whole project.
+     */
+    public Map<String, Long> completionsByDay(String projectId, Collection<String> memberIds, LocalDate from) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        Criteria criteria = Criteria.where("memberId").in(memberIds).and("day").gte(from.toString());
+        if (projectId != null) {
+            criteria.and("projectId").is(projectId);
+        }
+        Query query = new Query(criteria);
+        query.fields().include("day", "count");
+
+        Map<String, Long> byDay = new HashMap<>();
+        mongoTemplate.find(query, TaskCompletionDay.class)
+                .forEach(row -> byDay.merge(row.getDay(), row.getCount(), Long::sum));
+        return byDay;
+    }
+
+    /**
+     * Backfills the counters once, in the background, when the stored version marker is older than
+     * {@link #STATS_VERSION} (or missing, on a database that never had them).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        executor.execute(() -> {
+            try {
+                Document marker = mongoTemplate.findById(VERSION_MARKER_ID, Document.class, META_COLLECTION);
+                int version = marker != null ? marker.getInteger("version", 0) : 0;
+                if (version < STATS_VERSION) {
+                    rebuildAll();
+                    mongoTemplate.upsert(new Query(Criteria.where("_id").is(VERSION_MARKER_ID)), new Update()
+                            .set("version", STATS_VERSION)
+                            .set("updatedAt", Instant.now()), META_COLLECTION);
+                }
+            } catch (Exception e) {
+                log.warn("Skipping task statistics backfill: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Recomputes the counters of every project from the tasks collection, repairing any drift.
+     */
+    @Scheduled(cron = "${stats.rebuild.cron:0 30 3 * * *}")
+    public void rebuildAll() {
+        List<String> projectIds = mongoTemplate.findDistinct(new Query(), "projectId", Task.class, String.class);
+        log.info("Rebuilding task statistics for {} projects", projectIds.size());
+        for (String projectId : projectIds) {
+            try {
+                rebuildProject(projectId);
+            } catch (Exception e) {
+                log.error("Failed to rebuild task statistics of project {}", projectId, e);
+            }
+        }
+    }
+
+    public void rebuildProject(String projectId) {
+        // Same rules as the incremental path, summed over the project's live tasks
+        Deltas totals = new Deltas();
+        Query live = new Query(Criteria.where("projectId").is(projectId).and("isDeleted").ne(true));
+        live.fields().include("projectId", "memberId", "assignees", "status", "completedDate", "isDeleted");
+        try (Stream<Task> tasks = mongoTemplate.stream(live, Task.class)) {
+            tasks.forEach(task -> contribute(totals, TaskSnapshot.of(task), 1));
+        }
+
+        // Absolute values are $set over the existing documents, so readers never see a project without counters
+        if (!totals.byMember.isEmpty()) {
+            BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MemberTaskStats.class);
+            totals.byMember.forEach((memberId, fields) -> {
+                Map<String, Long> assigned = new HashMap<>();
+                fields.forEach((field, count) -> {
+                    if (field.startsWith(ASSIGNED_PREFIX)) {
+                        assigned.put(field.substring(ASSIGNED_PREFIX.length()), count);
+                    }
+                });
+                ops.upsert(new Query(Criteria.where("_id").is(memberId)), new Update()
+                        .set("projectId", projectId)
+                        .set("assigned", assigned)
+                        .set("created", fields.getOrDefault("created", 0L))
+                        .set("updatedAt", Instant.now()));
+            });
+            ops.execute();
+        }
+
+        if (!totals.completions.isEmpty()) {
+            BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskCompletionDay.class);
+            totals.completions.forEach((key, count) -> ops.upsert(key.query(), key.update().set("count", count)));
+            ops.execute();
+        }
+
+        // Members and days without any live task left lose their stale document
+        mongoTemplate.remove(new Query(Criteria.where("projectId").is(projectId)
+                .and("_id").nin(totals.byMember.keySet())), MemberTaskStats.class);
+        List<String> days = new ArrayList<>();
+        totals.completions.keySet().forEach(key -> days.add(key.id()));
+        mongoTemplate.remove(new Query(Criteria.where("projectId").is(projectId)
+                .and("_id").nin(days)), TaskCompletionDay.class);
+    }
+
+    public long deleteProject(String projectId) {
+        Query byProject = new Query(Criteria.where("projectId").is(projectId));
+        return mongoTemplate.remove(byProject, MemberTaskStats.class).getDeletedCount()
+                + mongoTemplate.remove(byProject, TaskCompletionDay.class).getDeletedCount();
+    }
+
+    private static void contribute(Deltas deltas, TaskSnapshot task, int sign) {
+        if (!task.isLive()) {
+            return;
+        }
+        if (task.memberId != null) {
+            deltas.add(task.memberId, task.projectId, "created", sign);
+        }
+        for (String assignee : task.assignees) {
+            deltas.add(assignee, task.projectId, ASSIGNED_PREFIX + task.status.name(), sign);
+        }
+
+        // A completed task counts once for the project and once for each of its assignees
+        if (task.status == TaskStatus.COMPLETED && task.completedDate != null) {
+            String day = task.completedDate.toString();
+            deltas.complete(new CompletionKey(task.projectId, TaskCompletionDay.PROJECT_TOTAL, day), sign);
+            for (String assignee : task.assignees) {
+                deltas.complete(new CompletionKey(task.projectId, assignee, day), sign);
+            }
+        }
+    }
+
+    private void apply(Deltas deltas) {
+        try {
+            if (!deltas.byMember.isEmpty()) {
+                BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MemberTaskStats.class);
+                deltas.byMember.forEach((memberId, fields) -> {
+                    Update update = new Update()
+                            .set("projectId", deltas.projectByMember.get(memberId))
+                            .set("updatedAt", Instant.now());
+                    fields.forEach(update::inc);
+                    ops.upsert(new Query(Criteria.where("_id").is(memberId)), update);
+                });
+                ops.execute();
+            }
+
+            if (!deltas.completions.isEmpty()) {
+                BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskCompletionDay.class);
+                deltas.completions.forEach((key, delta) -> ops.upsert(key.query(), key.update().inc("count", delta)));
+                ops.execute();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply task statistics deltas, they will be repaired by the next rebuild", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * The parts of a task that the counters depend on, captured before the task is modified.
+     */
+    public static class TaskSnapshot {
+        static final TaskSnapshot NONE = new TaskSnapshot(null, null, List.of(), null, null, true);
+
+        private final String projectId;
+        private final String memberId;
+        private final Set<String> assignees;
+        private final TaskStatus status;
+        private final LocalDate completedDate;
+        private final boolean deleted;
+
+        private TaskSnapshot(String projectId, String memberId, Collection<String> assignees, TaskStatus status,
+                             LocalDate completedDate, boolean deleted) {
+            this.projectId = projectId;
+            this.memberId = memberId;
+            this.assignees = new LinkedHashSet<>(assignees);
+            this.assignees.remove(null);
+            this.status = status;
+            this.completedDate = completedDate;
+            this.deleted = deleted;
+        }
+
+        static TaskSnapshot of(Task task) {
+            if (task == null) {
+                return NONE;
+            }
+            return new TaskSnapshot(
+                    task.getProjectId(),
+                    task.getMemberId(),
+                    task.getAssignees() != null ? task.getAssignees() : List.of(),
+                    task.getStatus() != null ? task.getStatus() : TaskStatus.TODO,
+                    task.getCompletedDate(),
+                    Boolean.TRUE.equals(task.getIsDeleted())
+            );
+        }
+
+        boolean isLive() {
+            return !deleted && projectId != null;
+        }
+    }
+
+    private static class CompletionKey {
+        private final String projectId;
+        private final String memberId;
+        private final String day;
+
+        private CompletionKey(String projectId, String memberId, String day) {
+            this.projectId = projectId;
+            this.memberId = memberId;
+            this.day = day;
+        }
+
+        String id() {
+            return TaskCompletionDay.idOf(projectId, memberId, day);
+        }
+
+        Query query() {
+            return new Query(Criteria.where("_id").is(id()));
+        }
+
+        Update update() {
+            return new Update()
+                    .set("projectId", projectId)
+                    .set("memberId", memberId)
+                    .set("day", day);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof CompletionKey)) {
+                return false;
+            }
+            CompletionKey other = (CompletionKey) o;
+            return projectId.equals(other.projectId) && memberId.equals(other.memberId) && day.equals(other.day);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(projectId, memberId, day);
+        }
+    }
+
+    private static class Deltas {
+        private final Map<String, Map<String, Long>> byMember = new HashMap<>();
+        private final Map<String, String> projectByMember = new HashMap<>();
+        private final Map<CompletionKey, Long> completions = new HashMap<>();
+
+        void add(String memberId, String projectId, String field, long delta) {
+            projectByMember.put(memberId, projectId);
+            Map<String, Long> fields = byMember.computeIfAbsent(memberId, id -> new HashMap<>());
+            // Changes that cancel out (e.g. a title edit) must not turn into writes
+            if (fields.merge(field, delta, Long::sum) == 0) {
+                fields.remove(field);
+            }
+            if (fields.isEmpty()) {
+                byMember.remove(memberId);
+            }
+        }
+
+        void complete(CompletionKey key, long delta) {
+            if (completions.merge(key, delta, Long::sum) == 0) {
+                completions.remove(key);
+            }
+        }
+    }
+}
@@ -5,9 +5,8 @@ import com.taskify.backend.dto.Team.GetTeamsResponseDto;
 import com.taskify.backend.dto.Team.TeamDto;
 import com.taskify.backend.models.auth.User;
 import com.taskify.backend.models.project.Member;
-import com.taskify.backend.models.project.Project;
 import com.taskify.backend.models.project.Team;
-import com.taskify.backend.repository.auth.UserRepository;
+import com.taskify.backend.repository.project.MemberHydrator;
 import com.taskify.backend.repository.project.MemberRepository;
 import com.taskify.backend.repository.project.ProjectRepository;
 import com.taskify.backend.repository.project.TeamRepository;
@@ -15,6 +14,10 @@ import com.taskify.backend.utils.ApiException;
 import com.taskify.backend.validators.project.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -29,7 +32,8 @@ public class TeamService {
     private final TeamRepository teamRepository;
     private final ProjectRepository projectRepository;
     private final MemberRepository memberRepository;
-    private final UserRepository userRepository;
+    private final MemberHydrator memberHydrator;
+    private final MembershipCache membershipCache;
 
     public GetTeamsResponseDto getTeams(User user, GetTeamsQueryValidator query) {
         String userId = user.getId();
@@ -37,11 +41,10 @@ public class TeamService {
 
         log.info("Getting teams - userId: {}, projectId: {}", userId, projectId);
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ApiException("Project not found", HttpStatus.NOT_FOUND.value()));
-
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
-                .orElseThrow(() -> new ApiException("Member not found", HttpStatus.NOT_FOUND.value()));
+        Member member = membershipCache.find(userId, projectId)
+                .orElseThrow(() -> projectRepository.existsById(projectId)
+                        ? new ApiException("Member not found", HttpStatus.NOT_FOUND.value())
+                        : new ApiException("Project not found", HttpStatus.NOT_FOUND.value()));
 
         return getTeamsWithMembers(query);
     }
@@ -50,24 +53,22 @@ public class TeamService {
         String projectId = query.getProjectId();
         String name = query.getName() != null ? query.getName() : "";
         int page = Math.max(0, query.getPage() - 1);
-        int limit = query.getLimit();
-
-        // Use simple repository query instead of aggregation
-        List<Team> allTeams = teamRepository.findAll().stream()
-                .filter(team -> team.getProjectId().equals(projectId))
-                .filter(team -> name.isEmpty() || team.getName().toLowerCase().contains(name.toLowerCase()))
+        int limit = Math.max(1, query.getLimit());
+
+        // Filter and page in Mongo; the Page count is skipped when the first page is already partial
+        Pageable pageable = PageRequest.of(page, limit, Sort.by(Sort.Direction.ASC, "_id"));
+        Page<Team> teamPage = name.isBlank()
+                ? teamRepository.findByProjectId(projectId, pageable)
+                : teamRepository.findByProjectIdAndNameStartingWithIgnoreCase(projectId, name.trim(), pageable);
+
+        // Map to DTOs with member and leader details, resolved for the whole page at once
+        MemberHydrator.Members members = hydrateTeams(teamPage.getContent());
+        List<TeamDto> paginatedTeams = teamPage.getContent().stream()
+                .map(team -> mapTeamToDto(team, members))
                 .collect(Collectors.toList());
 
-        // Map to DTOs with member and leader details
-        List<TeamDto> teams = allTeams.stream()
-                .map(this::mapTeamToDto)
-                .collect(Collectors.toList());
-
-        int total = teams.size();
-        int totalPages = (int) Math.ceil((double) total / limit);
-        int start = page * limit;
-        int end = Math.min(start + limit, total);
-        List<TeamDto> paginatedTeams = start < total ? teams.subList(start, end) : new ArrayList<>();
+        int total = (int) teamPage.getTotalElements();
+        int totalPages = teamPage.getTotalPages();
 
         return GetTeamsResponseDto.builder()
                 .teams(paginatedTeams)
@@ -83,38 +84,53 @@ public class TeamService {
                 .build();
     }
 
-    private TeamDto mapTeamToDto(Team team) {
+    private MemberHydrator.Members hydrateTeams(Collection<Team> teams) {
+        Set<String> memberIds = new HashSet<>();
+        for (Team team : teams) {
+            memberIds.addAll(team.getMembers());
+            if (team.getLeader() != null) {
+                memberIds.add(team.getLeader());
+            }
+        }
+        return memberHydrator.hydrate(memberIds);
+    }
+
+    private TeamDto mapTeamToDto(Team team, MemberHydrator.Members members) {
         TeamDto.TeamDtoBuilder builder = TeamDto.builder()
                 .id(team.getId())
                 .name(team.getName());
 
         // Get leader details
-        if (team.getLeader() != null) {
-            Member leader = memberRepository.findById(team.getLeader()).orElse(null);
-            if (leader != null) {
-                User leaderUser = userRepository.findById(leader.getUserId()).orElse(null);
-                builder.leader(TeamDto.LeaderDto.builder()
-                        .id(leader.getId())
-                        .email(leader.getEmail())
-                        .role(leader.getRole().toString())
-                        .user(leaderUser != null ? TeamDto.UserDto.builder()
-                                .fullName(leaderUser.getFullName())
-                                .avatar(leaderUser.getAvatar())
-                                .build() : null)
-                        .build());
-            } else {
-                builder.leader(new HashMap<>());  // Empty object if leader not found
-            }
+        Member leader = members.member(team.getLeader());
+        if (leader != null) {
+            builder.leader(toLeaderDto(leader, members.user(leader)));
         } else {
-            builder.leader(new HashMap<>());  // Empty object if no leader
+            builder.leader(new HashMap<>());  // Empty object if no leader or leader not found
         }
 
-        // Get member details
-        List<TeamDto.MemberDto> memberDtos = team.getMembers().stream()
+        builder.members(toMemberDtos(team, members));
+
+        return builder.build();
+    }
+
+    private TeamDto.LeaderDto toLeaderDto(Member leader, User leaderUser) {
+        return TeamDto.LeaderDto.builder()
+                .id(leader.getId())
+                .email(leader.getEmail())
+                .role(leader.getRole().toString())
+                .user(leaderUser != null ? TeamDto.UserDto.builder()
+                        .fullName(leaderUser.getFullName())
+                        .avatar(leaderUser.getAvatar())
+                        .build() : null)
+                .build();
+    }
+
+    private List<TeamDto.MemberDto> toMemberDtos(Team team, MemberHydrator.Members members) {
+        return team.getMembers().stream()
                 .map(memberId -> {
-                    Member m = memberRepository.findById(memberId).orElse(null);
+                    Member m = members.member(memberId);
                     if (m == null) return null;
-                    User u = userRepository.findById(m.getUserId()).orElse(null);
+                    User u = members.user(m);
                     return TeamDto.MemberDto.builder()
                             .id(m.getId())
                             .email(m.getEmail())
@@ -127,10 +143,6 @@ public class TeamService {
                 })
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
-
-        builder.members(memberDtos);
-
-        return builder.build();
     }
 
     public Map<String, Object> createTeam(User user, TeamValidator request) {
@@ -140,11 +152,10 @@ public class TeamService {
 
         log.info("Creating team - userId: {}, projectId: {}, name: {}", userId, projectId, name);
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ApiException("Project not found", HttpStatus.NOT_FOUND.value()));
-
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
-                .orElseThrow(() -> new ApiException("Member not found", HttpStatus.NOT_FOUND.value()));
+        Member member = membershipCache.find(userId, projectId)
+                .orElseThrow(() -> projectRepository.existsById(projectId)
+                        ? new ApiException("Member not found", HttpStatus.NOT_FOUND.value())
+                        : new ApiException("Project not found", HttpStatus.NOT_FOUND.value()));
 
         if (member.getRole() == MemberRole.MEMBER) {
             throw new ApiException("You have no permissions for create team", HttpStatus.FORBIDDEN.value());
@@ -183,11 +194,10 @@ public class TeamService {
 
         log.info("Updating team - userId: {}, teamId: {}", userId, teamId);
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ApiException("Project not found", HttpStatus.NOT_FOUND.value()));
-
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
-                .orElseThrow(() -> new ApiException("Member not found", HttpStatus.NOT_FOUND.value()));
+        Member member = membershipCache.find(userId, projectId)
+                .orElseThrow(() -> projectRepository.existsById(projectId)
+                        ? new ApiException("Member not found", HttpStatus.NOT_FOUND.value())
+                        : new ApiException("Project not found", HttpStatus.NOT_FOUND.value()));
 
         if (member.getRole() == MemberRole.MEMBER) {
             throw new ApiException("You have no permissions for update team", HttpStatus.FORBIDDEN.value());
@@ -200,7 +210,7 @@ public class TeamService {
         Team updatedTeam = teamRepository.save(team);
 
         // Return formatted DTO
-        TeamDto teamDto = mapTeamToDto(updatedTeam);
+        TeamDto teamDto = mapTeamToDto(updatedTeam, hydrateTeams(List.of(updatedTeam)));
 
         return Map.of("team", teamDto);
     }
@@ -212,11 +222,10 @@ public class TeamService {
 
         log.info("Deleting team - userId: {}, teamId: {}", userId, teamId);
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ApiException("Project not found", HttpStatus.NOT_FOUND.value()));
-
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
-                .orElseThrow(() -> new ApiException("Member not found", HttpStatus.NOT_FOUND.value()));
+        Member member = membershipCache.find(userId, projectId)
+                .orElseThrow(() -> projectRepository.existsById(projectId)
+                        ? new ApiException("Member not found", HttpStatus.NOT_FOUND.value())
+                        : new ApiException("Project not found", HttpStatus.NOT_FOUND.value()));
 
         if (member.getRole() == MemberRole.MEMBER) {
             throw new ApiException("You have no permissions for delete team", HttpStatus.FORBIDDEN.value());
@@ -246,7 +255,7 @@ public class TeamService {
         Member memberToAdd = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ApiException("Member not found", HttpStatus.NOT_FOUND.value()));
 
-        Member userMember = memberRepository.findByUserIdAndProjectId(userId, projectId)
+        Member userMember = membershipCache.find(userId, projectId)
                 .orElseThrow(() -> new ApiException("You have no permission to add member", HttpStatus.FORBIDDEN.value()));
 
         if (userMember.getRole() == MemberRole.MEMBER) {
@@ -283,11 +292,10 @@ public class TeamService {
 
         log.info("Getting team - userId: {}, teamId: {}, projectId: {}", userId, teamId, projectId);
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ApiException("Project not found", HttpStatus.NOT_FOUND.value()));
-
-        Member member = memberRepository.findByUserIdAndProjectId(userId, projectId)
-                .orElseThrow(() -> new ApiException("Member not found", HttpStatus.NOT_FOUND.value()));
+        Member member = membershipCache.find(userId, projectId)
+                .orElseThrow(() -> projectRepository.existsById(projectId)
+                        ? new ApiException("Member not found", HttpStatus.NOT_FOUND.value())
+                        : new ApiException("Project not found", HttpStatus.NOT_FOUND.value()));
 
         return getTeamByIdWithMembers(teamId);
     }
@@ -301,41 +309,13 @@ public class TeamService {
                 .name(team.getName())
                 .memberCount(team.getMembers().size());
 
-        if (team.getLeader() != null) {
-            Member leader = memberRepository.findById(team.getLeader()).orElse(null);
-            if (leader != null) {
-                User leaderUser = userRepository.findById(leader.getUserId()).orElse(null);
-                teamDtoBuilder.leader(TeamDto.LeaderDto.builder()
-                        .id(leader.getId())
-                        .email(leader.getEmail())
-                        .role(leader.getRole().toString())
-                        .user(leaderUser != null ? TeamDto.UserDto.builder()
-                                .fullName(leaderUser.getFullName())
-                                .avatar(leaderUser.getAvatar())
-                                .build() : null)
-                        .build());
-            }
+        MemberHydrator.Members members = hydrateTeams(List.of(team));
+        Member leader = members.member(team.getLeader());
+        if (leader != null) {
+            teamDtoBuilder.leader(toLeaderDto(leader, members.user(leader)));
         }
 
-        List<TeamDto.MemberDto> memberDtos = team.getMembers().stream()
-                .map(memberId -> {
-                    Member m = memberRepository.findById(memberId).orElse(null);
-                    if (m == null) return null;
-                    User u = userRepository.findById(m.getUserId()).orElse(null);
-                    return TeamDto.MemberDto.builder()
-                            .id(m.getId())
-                            .email(m.getEmail())
-                            .role(m.getRole().toString())
-                            .user(u != null ? TeamDto.UserDto.builder()
-                                    .fullName(u.getFullName())
-                                    .avatar(u.getAvatar())
-                                    .build() : null)
-                            .build();
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-
-        teamDtoBuilder.members(memberDtos);
+        teamDtoBuilder.members(toMemberDtos(team, members));
 
         return teamDtoBuilder.build();
     }
@@ -356,7 +336,7 @@ public class TeamService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ApiException("Member not found", HttpStatus.NOT_FOUND.value()));
 
-        Member userMember = memberRepository.findByUserIdAndProjectId(userId, projectId)
+        Member userMember = membershipCache.find(userId, projectId)
                 .orElseThrow(() -> new ApiException("You have no permission to add member", HttpStatus.NOT_FOUND.value()));
 
         if (userMember.getRole() == MemberRole.MEMBER) {
@@ -0,0 +1,224 @@
+package com.taskify.backend.services.shared;
+
+import com.taskify.backend.constants.NotificationEnums.EmailStatus;
+import com.taskify.backend.models.shared.OutboundEmail;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the email_outbox collection: claims due entries, renders them and sends each batch over a single
+ * SMTP connection on a bounded worker pool. Failed sends are retried with exponential backoff. Only as many
+ * entries are claimed as the idle workers can take, and the scheduler thread never waits on SMTP.
+ */
+@Slf4j
+@Component
+public class EmailOutboxWorker {
+
+    private final MongoTemplate mongoTemplate;
+    private final JavaMailSender mailSender;
+    private final EmailTemplateRenderer templateRenderer;
+    private final ExecutorService workers;
+    private final int workerCount;
+    private final AtomicInteger inFlightBatches = new AtomicInteger();
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    @Value("${notification.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${notification.outbox.messages-per-connection:10}")
+    private int messagesPerConnection;
+
+    @Value("${notification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.backoff-seconds:30}")
+    private long backoffSeconds;
+
+    @Value("${notification.outbox.lock-seconds:300}")
+    private long lockSeconds;
+
+    public EmailOutboxWorker(
+            MongoTemplate mongoTemplate,
+            JavaMailSender mailSender,
+            EmailTemplateRenderer templateRenderer,
+            @Value("${notification.outbox.workers:4}") int workerCount
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.mailSender = mailSender;
+        this.templateRenderer = templateRenderer;
+        this.workerCount = workerCount;
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(
+            initialDelayString = "${notification.outbox.initial-delay-ms:10000}",
+            fixedDelayString = "${notification.outbox.poll-interval-ms:2000}"
+    )
+    public void drain() {
+        // Claimed entries are locked for lockSeconds, so never claim more than the pool can start on right away
+        int idleWorkers = workerCount - inFlightBatches.get();
+        if (idleWorkers <= 0) {
+            return;
+        }
+        List<OutboundEmail> claimed = claimDueEmails(Math.min(batchSize, idleWorkers * messagesPerConnection));
+        if (claimed.isEmpty()) {
+            return;
+        }
+        log.info("Dispatching {} queued emails", claimed.size());
+
+        for (int i = 0; i < claimed.size(); i += messagesPerConnection) {
+            List<OutboundEmail> batch = claimed.subList(i, Math.min(i + messagesPerConnection, claimed.size()));
+            inFlightBatches.incrementAndGet();
+            workers.execute(() -> {
+                try {
+                    sendBatch(batch);
+                } finally {
+                    inFlightBatches.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private List<OutboundEmail> claimDueEmails(int limit) {
+        Instant now = Instant.now();
+        Query due = new Query(new Criteria().orOperator(
+                Criteria.where("status").is(EmailStatus.PENDING).and("nextAttemptAt").lte(now),
+                Criteria.where("status").is(EmailStatus.SENDING).and("lockedUntil").lt(now)
+        )).with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"));
+
+        // Attempts are counted when claimed, so an entry whose send kills the worker still runs out of retries
+        Update claim = new Update()
+                .set("status", EmailStatus.SENDING)
+                .set("lockedUntil", now.plusSeconds(lockSeconds))
+                .inc("attempts", 1);
+
+        // Each claim is an atomic findAndModify, so several instances can drain the same outbox safely
+        List<OutboundEmail> claimed = new ArrayList<>();
+        while (claimed.size() < limit) {
+            OutboundEmail email = mongoTemplate.findAndModify(due, claim,
+                    FindAndModifyOptions.options().returnNew(true), OutboundEmail.class);
+            if (email == null) {
+                break;
+            }
+            if (email.getAttempts() > maxAttempts) {
+                markFailedAttempt(email, new IllegalStateException("Delivery was interrupted on every attempt"));
+                continue;
+            }
+            claimed.add(email);
+        }
+        return claimed;
+    }
+
+    private void sendBatch(List<OutboundEmail> batch) {
+        Map<MimeMessage, OutboundEmail> messages = new LinkedHashMap<>();
+        for (OutboundEmail email : batch) {
+            try {
+                messages.put(toMimeMessage(email), email);
+            } catch (Exception e) {
+                markFailedAttempt(email, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            // JavaMailSender sends an array over one Transport connection
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            messages.values().forEach(this::markSent);
+        } catch (MailSendException e) {
+            Map<Object, Exception> failed = e.getFailedMessages();
+            messages.forEach((message, email) -> {
+                if (failed.isEmpty() || failed.containsKey(message)) {
+                    markFailedAttempt(email, failed.getOrDefault(message, e));
+                } else {
+                    markSent(email);
+                }
+            });
+        } catch (Exception e) {
+            messages.values().forEach(email -> markFailedAttempt(email, e));
+        }
+    }
+
+    private MimeMessage toMimeMessage(OutboundEmail email) throws MessagingException {
+        String htmlContent = templateRenderer.render(email.getTemplate(), email.getVariables());
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(email.getTo());
+        helper.setSubject(email.getSubject());
+        helper.setText(htmlContent, true);
+        return message;
+    }
+
+    private void markSent(OutboundEmail email) {
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(email.getId())),
+                new Update()
+                        .set("status", EmailStatus.SENT)
+                        .set("sentAt", Instant.now())
+                        // The variables hold links with live tokens; the TTL index on sentAt removes the rest
+                        .unset("variables")
+                        .unset("lockedUntil"),
+                OutboundEmail.class
+        );
+        log.info("Email with template '{}' sent successfully to: {}", email.getTemplate(), email.getTo());
+    }
+
+    private void markFailedAttempt(OutboundEmail email, Exception error) {
+        int attempts = email.getAttempts();
+        boolean exhausted = attempts >= maxAttempts;
+        Duration backoff = Duration.ofSeconds(backoffSeconds * (1L << Math.max(0, Math.min(attempts - 1, 10))));
+
+        Update update = new Update()
+                .set("status", exhausted ? EmailStatus.FAILED : EmailStatus.PENDING)
+                .set("nextAttemptAt", Instant.now().plus(backoff))
+                .set("lastError", String.valueOf(error.getMessage()))
+                .unset("lockedUntil");
+        if (exhausted) {
+            update.unset("variables");
+        }
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(email.getId())), update, OutboundEmail.class);
+
+        if (exhausted) {
+            log.error("Giving up on email with template '{}' to: {} after {} attempts",
+                    email.getTemplate(), email.getTo(), attempts, error);
+        } else {
+            log.warn("Failed to send email with template '{}' to: {} (attempt {}), retrying in {}s",
+                    email.getTemplate(), email.getTo(), attempts, backoff.toSeconds());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,98 @@
+package com.taskify.backend.services.shared;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.io.StringWriter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Renders email templates through the shared Thymeleaf engine and keeps per-template render stats. Reusing the
+ * parsed template is Thymeleaf's own cache (spring.thymeleaf.cache); this class only warms it with the known
+ * templates at startup, so the first queued email does not pay for resolving and parsing its file. Static parts
+ * are not pre-rendered: every message walks the whole cached template.
+ */
+@Slf4j
+@Component
+public class EmailTemplateRenderer {
+
+    static final List<String> EMAIL_TEMPLATES = List.of(
+            "assigned-task",
+            "assigned-document",
+            "invite-member",
+            "verify-email",
+            "reset-password"
+    );
+
+    private final TemplateEngine templateEngine;
+    private final Map<String, RenderStats> statsByTemplate = new ConcurrentHashMap<>();
+
+    public EmailTemplateRenderer(TemplateEngine templateEngine) {
+        this.templateEngine = templateEngine;
+    }
+
+    public String render(String template, Map<String, Object> variables) {
+        String name = normalize(template);
+        RenderStats stats = statsByTemplate.computeIfAbsent(name, key -> new RenderStats());
+
+        Context context = new Context();
+        if (variables != null) {
+            context.setVariables(variables);
+        }
+
+        // Size the buffer from the previous render of this template to avoid regrowing it
+        StringWriter writer = new StringWriter(Math.max(1024, stats.lastLength));
+        long start = System.nanoTime();
+        templateEngine.process(name, context, writer);
+        stats.record(System.nanoTime() - start, writer.getBuffer().length());
+        return writer.toString();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (String template : EMAIL_TEMPLATES) {
+            try {
+                render(template, Map.of());
+            } catch (Exception e) {
+                log.warn("Could not pre-parse email template '{}': {}", template, e.getMessage());
+            }
+        }
+        log.info("Pre-parsed {} email templates", EMAIL_TEMPLATES.size());
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new TreeMap<>();
+        statsByTemplate.forEach((template, stats) -> {
+            long renders = stats.renders.sum();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("renders", renders);
+            entry.put("averageMicros", renders == 0 ? 0 : stats.totalNanos.sum() / renders / 1_000);
+            entry.put("lastLength", stats.lastLength);
+            result.put(template, entry);
+        });
+        return result;
+    }
+
+    // "/invite-member" and "invite-member" resolve to the same file but would be cached as two entries
+    private static String normalize(String template) {
+        return template.startsWith("/") ? template.substring(1) : template;
+    }
+
+    private static class RenderStats {
+        private final LongAdder renders = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private volatile int lastLength;
+
+        void record(long nanos, int length) {
+            renders.increment();
+            totalNanos.add(nanos);
+            lastLength = length;
+        }
+    }
+}
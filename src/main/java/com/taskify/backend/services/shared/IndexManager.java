@@ -0,0 +1,253 @@
+package com.taskify.backend.services.shared;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Owns the indexes behind the hot query paths. Indexes are created in the background once the application is up,
+ * so startup never waits on (or fails because of) Mongo, and the registered query shapes can be explained on
+ * demand to catch queries that fall back to a collection scan.
+ */
+@Slf4j
+@Component
+public class IndexManager {
+
+    // Any valid id works for explain; the planner only looks at the shape of the filter
+    private static final String SAMPLE_ID = "000000000000000000000000";
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean bootstrapEnabled;
+
+    private final List<IndexSpec> indexes = List.of(
+            // getTasks / getTasksByCursor: match on project, sort by createdAt then _id
+            new IndexSpec("tasks", new Index().named("project_deleted_created")
+                    .on("projectId", Sort.Direction.ASC).on("isDeleted", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC).on("_id", Sort.Direction.DESC)),
+            // completed tasks, monthly completion stats and the 30-day charts
+            new IndexSpec("tasks", new Index().named("project_status_completed")
+                    .on("projectId", Sort.Direction.ASC).on("status", Sort.Direction.ASC)
+                    .on("completedDate", Sort.Direction.DESC)),
+            new IndexSpec("tasks", new Index().named("project_taskNumber")
+                    .on("projectId", Sort.Direction.ASC).on("taskNumber", Sort.Direction.DESC)),
+            new IndexSpec("tasks", new Index().named("assignees_project")
+                    .on("assignees", Sort.Direction.ASC).on("projectId", Sort.Direction.ASC)),
+            new IndexSpec("tasks", new Index().named("memberId")
+                    .on("memberId", Sort.Direction.ASC)),
+
+            new IndexSpec("members", new Index().named("user_project")
+                    .on("userId", Sort.Direction.ASC).on("projectId", Sort.Direction.ASC)),
+            // getMembers: bounds the projectId match; the case-insensitive email prefix is checked per key, not bounded
+            new IndexSpec("members", new Index().named("project_email")
+                    .on("projectId", Sort.Direction.ASC).on("email", Sort.Direction.ASC)),
+            new IndexSpec("members", new Index().named("user_invitationStatus")
+                    .on("userId", Sort.Direction.ASC).on("invitationStatus", Sort.Direction.ASC)),
+            new IndexSpec("members", new Index().named("email_project")
+                    .on("email", Sort.Direction.ASC).on("projectId", Sort.Direction.ASC)),
+
+            new IndexSpec("teams", new Index().named("project_name")
+                    .on("projectId", Sort.Direction.ASC).on("name", Sort.Direction.ASC)),
+            // getTeams: match on project, page in _id order
+            new IndexSpec("teams", new Index().named("project_id")
+                    .on("projectId", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)),
+            // getLabels: match on project, newest first
+            new IndexSpec("lable", new Index().named("project_created")
+                    .on("projectId", Sort.Direction.ASC).on("createdAt", Sort.Direction.DESC)
+                    .on("_id", Sort.Direction.DESC)),
+            new IndexSpec("documents", new Index().named("project_deleted_created")
+                    .on("projectId", Sort.Direction.ASC).on("isDeleted", Sort.Direction.ASC)
+                    .on("createdAt", Sort.Direction.DESC).on("_id", Sort.Direction.DESC)),
+            new IndexSpec("issues", new Index().named("project")
+                    .on("projectId", Sort.Direction.ASC)),
+            new IndexSpec("projects", new Index().named("user")
+                    .on("userId", Sort.Direction.ASC)),
+            new IndexSpec("users", new Index().named("email")
+                    .on("email", Sort.Direction.ASC)),
+            new IndexSpec("email_outbox", new Index().named("status_nextAttempt")
+                    .on("status", Sort.Direction.ASC).on("nextAttemptAt", Sort.Direction.ASC)),
+            // Sent emails are only kept for troubleshooting
+            new IndexSpec("email_outbox", new Index().named("sentAt_ttl")
+                    .on("sentAt", Sort.Direction.ASC).expire(Duration.ofDays(7))),
+            new IndexSpec("member_task_stats", new Index().named("project")
+                    .on("projectId", Sort.Direction.ASC)),
+            // getCompletionHistory: per project ("*" row) or across the user's memberships
+            new IndexSpec("task_completion_daily", new Index().named("project_member_day")
+                    .on("projectId", Sort.Direction.ASC).on("memberId", Sort.Direction.ASC).on("day", Sort.Direction.ASC)),
+            new IndexSpec("task_completion_daily", new Index().named("member_day")
+                    .on("memberId", Sort.Direction.ASC).on("day", Sort.Direction.ASC)),
+            // task timeline: activity of one task, newest first
+            new IndexSpec("task_activity", new Index().named("task_created")
+                    .on("taskId", Sort.Direction.ASC).on("createdAt", Sort.Direction.DESC)
+                    .on("_id", Sort.Direction.DESC)),
+            new IndexSpec("task_activity", new Index().named("project")
+                    .on("projectId", Sort.Direction.ASC)),
+            new IndexSpec("project_cleanup_jobs", new Index().named("project_created")
+                    .on("projectId", Sort.Direction.ASC).on("createdAt", Sort.Direction.DESC)),
+            new IndexSpec("project_cleanup_jobs", new Index().named("status_updated")
+                    .on("status", Sort.Direction.ASC).on("updatedAt", Sort.Direction.ASC))
+    );
+
+    private final List<QueryShape> queryShapes = List.of(
+            new QueryShape("members.findByUserIdAndProjectId", "members",
+                    new Document("userId", SAMPLE_ID).append("projectId", SAMPLE_ID), null),
+            new QueryShape("members.findByProjectId", "members",
+                    new Document("projectId", SAMPLE_ID), null),
+            new QueryShape("members.findByUserIdAndInvitationStatus", "members",
+                    new Document("userId", SAMPLE_ID).append("invitationStatus", "ACCEPTED"), null),
+            new QueryShape("members.findByEmailAndProjectId", "members",
+                    new Document("email", "someone@example.com").append("projectId", SAMPLE_ID), null),
+            new QueryShape("members.getMembers", "members",
+                    new Document("projectId", SAMPLE_ID).append("email", new Document("$regex", "^someone").append("$options", "i")),
+                    new Document("_id", 1)),
+            new QueryShape("tasks.findTopByProjectIdOrderByTaskNumberDesc", "tasks",
+                    new Document("projectId", SAMPLE_ID), new Document("taskNumber", -1)),
+            new QueryShape("tasks.getTasks", "tasks",
+                    new Document("projectId", SAMPLE_ID).append("isDeleted", false),
+                    new Document("createdAt", -1).append("_id", -1)),
+            new QueryShape("tasks.getCompletedTasks", "tasks",
+                    new Document("projectId", SAMPLE_ID).append("isDeleted", false).append("status", "COMPLETED"),
+                    new Document("completedDate", -1).append("_id", -1)),
+            new QueryShape("member_task_stats.findByMemberIds", "member_task_stats",
+                    new Document("_id", new Document("$in", List.of(new ObjectId(SAMPLE_ID)))), null),
+            new QueryShape("task_completion_daily.completionsByProject", "task_completion_daily",
+                    new Document("memberId", new Document("$in", List.of("*"))).append("day", new Document("$gte", "2024-01-01"))
+                            .append("projectId", SAMPLE_ID), null),
+            new QueryShape("task_completion_daily.completionsByMembers", "task_completion_daily",
+                    new Document("memberId", new Document("$in", List.of(SAMPLE_ID))).append("day", new Document("$gte", "2024-01-01")),
+                    null),
+            new QueryShape("task_activity.getTaskComments", "task_activity",
+                    new Document("taskId", SAMPLE_ID), new Document("createdAt", -1).append("_id", -1)),
+            new QueryShape("documents.getDocuments", "documents",
+                    new Document("projectId", SAMPLE_ID).append("isDeleted", false),
+                    new Document("createdAt", -1).append("_id", -1)),
+            new QueryShape("teams.findByNameAndProjectId", "teams",
+                    new Document("name", "team").append("projectId", SAMPLE_ID), null),
+            new QueryShape("teams.getTeams", "teams",
+                    new Document("projectId", SAMPLE_ID).append("name", new Document("$regex", "^team").append("$options", "i")),
+                    new Document("_id", 1)),
+            new QueryShape("lable.getLabels", "lable",
+                    new Document("projectId", SAMPLE_ID), new Document("createdAt", -1).append("_id", -1)),
+            new QueryShape("projects.findByUserId", "projects",
+                    new Document("userId", SAMPLE_ID), null),
+            new QueryShape("email_outbox.claimDueEmails", "email_outbox",
+                    new Document("status", "PENDING").append("nextAttemptAt", new Document("$lte", new Date())),
+                    new Document("nextAttemptAt", 1))
+    );
+
+    public IndexManager(
+            MongoTemplate mongoTemplate,
+            @Value("${mongo.indexes.bootstrap-enabled:true}") boolean bootstrapEnabled
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.bootstrapEnabled = bootstrapEnabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!bootstrapEnabled) {
+            return;
+        }
+        Thread thread = new Thread(this::ensureIndexes, "index-bootstrap");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void ensureIndexes() {
+        int created = 0;
+        for (IndexSpec spec : indexes) {
+            try {
+                mongoTemplate.indexOps(spec.getCollection()).createIndex(spec.getIndex());
+                created++;
+            } catch (DataAccessResourceFailureException e) {
+                // No point trying the rest against a database we cannot reach
+                log.warn("Skipping index bootstrap, MongoDB is unavailable: {}", e.getMessage());
+                return;
+            } catch (Exception e) {
+                log.error("Failed to ensure index {} on {}: {}",
+                        spec.getIndex().getIndexKeys().toJson(), spec.getCollection(), e.getMessage());
+            }
+        }
+        log.info("Ensured {}/{} indexes", created, indexes.size());
+    }
+
+    /**
+     * Explains every registered query shape and reports the winning plan's stages, flagging collection scans.
+     */
+    public List<Map<String, Object>> explainQueryShapes() {
+        List<Map<String, Object>> report = new ArrayList<>();
+        for (QueryShape shape : queryShapes) {
+            Document find = new Document("find", shape.getCollection()).append("filter", shape.getFilter());
+            if (shape.getSort() != null) {
+                find.append("sort", shape.getSort());
+            }
+            Document command = new Document("explain", find).append("verbosity", "queryPlanner");
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", shape.getName());
+            entry.put("collection", shape.getCollection());
+            entry.put("filter", shape.getFilter().keySet());
+            try {
+                Document result = mongoTemplate.getDb().runCommand(command);
+                Document queryPlanner = result.get("queryPlanner", Document.class);
+                List<String> stages = new ArrayList<>();
+                collectStages(queryPlanner != null ? queryPlanner.get("winningPlan") : null, stages);
+                entry.put("stages", stages);
+                entry.put("collectionScan", stages.contains("COLLSCAN"));
+            } catch (Exception e) {
+                entry.put("error", e.getMessage());
+            }
+            report.add(entry);
+        }
+        return report;
+    }
+
+    private static void collectStages(Object plan, List<String> stages) {
+        if (!(plan instanceof Document)) {
+            return;
+        }
+        Document node = (Document) plan;
+        // Newer servers nest the classic plan under queryPlan
+        if (node.containsKey("queryPlan")) {
+            collectStages(node.get("queryPlan"), stages);
+            return;
+        }
+        Object stage = node.get("stage");
+        if (stage != null) {
+            stages.add(stage.toString());
+        }
+        collectStages(node.get("inputStage"), stages);
+        Object inputStages = node.get("inputStages");
+        if (inputStages instanceof List) {
+            ((List<?>) inputStages).forEach(child -> collectStages(child, stages));
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class IndexSpec {
+        private final String collection;
+        private final Index index;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class QueryShape {
+        private final String name;
+        private final String collection;
+        private final Document filter;
+        private final Document sort;
+    }
+}
@@ -1,5 +1,7 @@
 package com.taskify.backend.services.shared;
 
+import com.taskify.backend.models.shared.OutboundEmail;
+import com.taskify.backend.repository.shared.OutboundEmailRepository;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -8,9 +10,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -19,7 +20,7 @@ import java.util.Map;
 public class NotificationService {
 
     private final JavaMailSender mailSender;
-    private final TemplateEngine templateEngine;
+    private final OutboundEmailRepository outboundEmailRepository;
 
     @Value("${spring.mail.username}")
     private String fromEmail;
@@ -43,27 +44,19 @@ public class NotificationService {
         }
     }
 
-    public void sendWithTemplate(String to, String subject, String templateName, Map<String, Object> variables)
-            throws MessagingException {
-        try {
-            Context context = new Context();
-            context.setVariables(variables);
-
-            String htmlContent = templateEngine.process("/" + templateName, context);
-
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(fromEmail);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);
-
-            mailSender.send(message);
-            log.info("Email with template '{}' sent successfully to: {}", templateName, to);
-        } catch (MessagingException e) {
-            log.error("Failed to send email with template '{}' to: {}", templateName, to, e);
-            throw e;
-        }
+    /**
+     * Queues a templated email in the durable outbox and returns immediately;
+     * EmailOutboxWorker renders and delivers it off the request thread.
+     */
+    public void sendWithTemplate(String to, String subject, String templateName, Map<String, Object> variables) {
+        OutboundEmail email = OutboundEmail.builder()
+                .to(to)
+                .subject(subject)
+                .template(templateName)
+                .variables(new HashMap<>(variables))
+                .build();
+
+        outboundEmailRepository.save(email);
+        log.info("Email with template '{}' queued for: {}", templateName, to);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+package com.taskify.backend.services.shared;
+
+import com.taskify.backend.models.shared.Counter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.function.LongSupplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SequenceService {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Atomically reserves {@code count} consecutive values of the named sequence and returns the first one.
+     * A missing counter is seeded from {@code seed} (the highest value already in use) before incrementing,
+     * so existing data keeps numbering where it left off.
+     */
+    public long reserve(String name, int count, LongSupplier seed) {
+        Query query = new Query(Criteria.where("_id").is(name));
+        Update increment = new Update().inc("seq", count);
+        FindAndModifyOptions returnNew = FindAndModifyOptions.options().returnNew(true);
+
+        Counter counter = mongoTemplate.findAndModify(query, increment, returnNew, Counter.class);
+        if (counter == null) {
+            // $max keeps concurrent seeders idempotent; only the $inc below hands out values
+            long current = seed.getAsLong();
+            mongoTemplate.upsert(query, new Update().max("seq", current), Counter.class);
+            log.info("Seeded sequence {} at {}", name, current);
+            counter = mongoTemplate.findAndModify(query, increment, returnNew, Counter.class);
+        }
+
+        return counter.getSeq() - count + 1;
+    }
+
+    public long next(String name, LongSupplier seed) {
+        return reserve(name, 1, seed);
+    }
+
+    /**
+     * Atomically increments the named counter only while it is below {@code limit}, seeding it like
+     * {@link #reserve}. Returns false when the limit is reached, so concurrent callers can never overshoot it.
+     */
+    public boolean tryAcquire(String name, long limit, LongSupplier seed) {
+        Query belowLimit = new Query(Criteria.where("_id").is(name).and("seq").lt(limit));
+        Update increment = new Update().inc("seq", 1);
+
+        if (mongoTemplate.findAndModify(belowLimit, increment, Counter.class) != null) {
+            return true;
+        }
+
+        Query byName = new Query(Criteria.where("_id").is(name));
+        if (mongoTemplate.exists(byName, Counter.class)) {
+            return false;
+        }
+        long current = seed.getAsLong();
+        mongoTemplate.upsert(byName, new Update().max("seq", current), Counter.class);
+        log.info("Seeded counter {} at {}", name, current);
+        return mongoTemplate.findAndModify(belowLimit, increment, Counter.class) != null;
+    }
+
+    /**
+     * Removes the named counter, e.g. once the project it belongs to is gone. Returns the number of counters removed.
+     */
+    public long delete(String name) {
+        return mongoTemplate.remove(new Query(Criteria.where("_id").is(name)), Counter.class).getDeletedCount();
+    }
+
+    /**
+     * Gives back a value taken with {@link #tryAcquire}; never drops the counter below zero.
+     */
+    public void release(String name) {
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(name).and("seq").gt(0)),
+                new Update().inc("seq", -1),
+                Counter.class
+        );
+    }
+}
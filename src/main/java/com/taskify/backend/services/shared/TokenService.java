@@ -1,24 +1,55 @@
 package com.taskify.backend.services.shared;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.taskify.backend.utils.CacheMetrics;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
 
 @Service
 public class TokenService {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    // Built once; both are immutable and safe to share across request threads
+    private final Key key;
+    private final JwtParser parser;
 
-    public String signToken(Object payload, long expirationMillis) {
-        Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    // Verified claims keyed by SHA-256 of the token, each entry living until the token's own expiry
+    private final Cache<String, Claims> verifiedTokens;
+    private final boolean verifiedCacheEnabled;
+
+    public TokenService(
+            @Value("${jwt.secret}") String jwtSecret,
+            @Value("${jwt.verified-cache.enabled:true}") boolean verifiedCacheEnabled,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize
+    ) {
+        this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedCacheEnabled = verifiedCacheEnabled;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(Expiry.creating((String hash, Claims claims) -> timeToExpiry(claims)))
+                .recordStats()
+                .build();
+    }
 
+    public String signToken(Object payload, long expirationMillis) {
         return Jwts.builder()
                 .claim("user", payload)
                 .setIssuedAt(new Date())
@@ -28,12 +59,39 @@ public class TokenService {
     }
 
     public Claims verifyToken(String token) {
-        Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        if (!verifiedCacheEnabled) {
+            return parser.parseClaimsJws(token).getBody();
+        }
 
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        String hash = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        // Tokens without an expiry are verified every time rather than cached forever
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(hash, claims);
+        }
+        return claims;
+    }
+
+    public Map<String, Object> verifiedTokenStats() {
+        return CacheMetrics.describe(verifiedTokens);
+    }
+
+    private static Duration timeToExpiry(Claims claims) {
+        long millis = claims.getExpiration().getTime() - System.currentTimeMillis();
+        return Duration.ofMillis(Math.max(0, millis));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -0,0 +1,83 @@
+package com.taskify.backend.utils;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Opaque keyset cursor over a (sortField, _id) pair.
+ * Encoded as base64url("<epochMillis>|<objectId>"); an empty millis part means the sort value was null.
+ */
+public class PageCursor {
+
+    private final Date value;
+    private final ObjectId id;
+
+    public PageCursor(Date value, ObjectId id) {
+        this.value = value;
+        this.id = id;
+    }
+
+    public Date getValue() {
+        return value;
+    }
+
+    public ObjectId getId() {
+        return id;
+    }
+
+    public static PageCursor of(Object value, Object id) {
+        Date date = value instanceof Date ? (Date) value : null;
+        ObjectId objectId = id instanceof ObjectId ? (ObjectId) id : new ObjectId(String.valueOf(id));
+        return new PageCursor(date, objectId);
+    }
+
+    public String encode() {
+        String raw = (value != null ? String.valueOf(value.getTime()) : "") + "|" + id.toHexString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            String millis = raw.substring(0, separator);
+            String id = raw.substring(separator + 1);
+            if (!ObjectId.isValid(id)) {
+                throw new IllegalArgumentException("Invalid cursor id");
+            }
+            return new PageCursor(millis.isEmpty() ? null : new Date(Long.parseLong(millis)), new ObjectId(id));
+        } catch (RuntimeException e) {
+            throw new ApiException("Invalid cursor", 400);
+        }
+    }
+
+    /**
+     * Criteria selecting the rows strictly after this cursor for a (field, _id) sort in the given direction.
+     * MongoDB orders null below every date, so nulls come last on DESC and first on ASC.
+     */
+    public Criteria after(String field, Sort.Direction direction) {
+        boolean desc = direction == Sort.Direction.DESC;
+
+        if (value == null) {
+            Criteria sameValue = new Criteria().andOperator(
+                    Criteria.where(field).is(null),
+                    desc ? Criteria.where("_id").lt(id) : Criteria.where("_id").gt(id)
+            );
+            return desc ? sameValue : new Criteria().orOperator(sameValue, Criteria.where(field).ne(null));
+        }
+
+        Criteria sameValue = new Criteria().andOperator(
+                Criteria.where(field).is(value),
+                desc ? Criteria.where("_id").lt(id) : Criteria.where("_id").gt(id)
+        );
+        if (desc) {
+            return new Criteria().orOperator(Criteria.where(field).lt(value), sameValue, Criteria.where(field).is(null));
+        }
+        return new Criteria().orOperator(Criteria.where(field).gt(value), sameValue);
+    }
+}
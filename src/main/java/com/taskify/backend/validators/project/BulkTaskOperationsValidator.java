@@ -0,0 +1,38 @@
+package com.taskify.backend.validators.project;
+
+import com.taskify.backend.constants.TaskEnums.TaskBulkAction;
+import com.taskify.backend.constants.TaskEnums.TaskStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class BulkTaskOperationsValidator {
+    @NotEmpty(message = "Project ID is required")
+    private String projectId;
+
+    @Valid
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 200, message = "At most 200 operations can be sent at once")
+    private List<Operation> operations = new ArrayList<>();
+
+    @Data
+    public static class Operation {
+        @NotEmpty(message = "Task ID is required")
+        private String taskId;
+
+        @NotNull(message = "Action is required")
+        private TaskBulkAction action;
+
+        // CHANGE_STATUS only
+        private TaskStatus status;
+
+        // ASSIGN_MEMBER and REMOVE_ASSIGNED_MEMBER only
+        private String memberId;
+    }
+}
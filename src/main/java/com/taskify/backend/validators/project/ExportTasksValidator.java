@@ -0,0 +1,14 @@
+package com.taskify.backend.validators.project;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+@Data
+public class ExportTasksValidator {
+    @NotEmpty(message = "ProjectId is required")
+    private String projectId;
+
+    @Pattern(regexp = "ndjson|csv", message = "Format must be ndjson or csv")
+    private String format = "ndjson";
+}
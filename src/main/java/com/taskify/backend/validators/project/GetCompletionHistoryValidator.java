@@ -0,0 +1,15 @@
+package com.taskify.backend.validators.project;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+public class GetCompletionHistoryValidator {
+    // Optional; without it the history covers all of the user's accepted memberships
+    private String projectId;
+
+    @Min(value = 1, message = "Days must be at least 1")
+    @Max(value = 366, message = "Days must be at most 366")
+    private Integer days = 30;
+}
@@ -0,0 +1,74 @@
+package com.taskify.backend.validators.project;
+
+import com.taskify.backend.constants.CommentEnums.CommentType;
+import jakarta.validation.constraints.NotEmpty;
+
+public class GetTaskCommentsValidator {
+
+    @NotEmpty(message = "Project ID is required")
+    private String projectId = "";
+
+    @NotEmpty(message = "Task ID is required")
+    private String taskId = "";
+
+    // null = every comment type
+    private CommentType commentType = null;
+    // "" = first page; otherwise an opaque cursor from nextCursor
+    private String cursor = "";
+    private int limit = 20;
+
+    // ======= Getters =======
+    public String getProjectId() {
+        return projectId;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public CommentType getCommentType() {
+        return commentType;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    // ======= Setters =======
+    public void setProjectId(String projectId) {
+        this.projectId = (projectId == null) ? "" : projectId.trim();
+    }
+
+    public void setTaskId(String taskId) {
+        this.taskId = (taskId == null) ? "" : taskId.trim();
+    }
+
+    public void setCommentType(String commentType) {
+        if (commentType == null || commentType.trim().isEmpty() || commentType.equalsIgnoreCase("All")) {
+            this.commentType = null;
+            return;
+        }
+        try {
+            this.commentType = CommentType.valueOf(commentType.trim());
+        } catch (IllegalArgumentException e) {
+            this.commentType = null;
+        }
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = (cursor == null) ? "" : cursor.trim();
+    }
+
+    public void setLimit(String limit) {
+        try {
+            int parsedLimit = Integer.parseInt(limit);
+            this.limit = (parsedLimit > 0 && parsedLimit <= 100) ? parsedLimit : 20;
+        } catch (NumberFormatException e) {
+            this.limit = 20;
+        }
+    }
+}
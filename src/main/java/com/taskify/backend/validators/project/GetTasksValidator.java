@@ -13,8 +13,11 @@ public class GetTasksValidator {
     private boolean sortByCreated = false;
     private boolean assignedToMe = false;
     private boolean createdByMe = false;
+    private boolean paginate = false;
     private int page = 1;
     private int limit = 6;
+    // null = offset paging; "" = first keyset page; otherwise an opaque cursor from nextCursor
+    private String cursor = null;
 
     // ======= Getters =======
     public String getProjectId() {
@@ -45,6 +48,10 @@ public class GetTasksValidator {
         return createdByMe;
     }
 
+    public boolean getPaginate() {
+        return paginate;
+    }
+
     public int getPage() {
         return page;
     }
@@ -53,6 +60,10 @@ public class GetTasksValidator {
         return limit;
     }
 
+    public String getCursor() {
+        return cursor;
+    }
+
     // ======= Setters =======
     public void setProjectId(String projectId) {
         this.projectId = (projectId == null) ? "" : projectId.trim();
@@ -96,6 +107,12 @@ public class GetTasksValidator {
                 !createdByMe.isEmpty();
     }
 
+    public void setPaginate(String paginate) {
+        this.paginate = paginate != null &&
+                !paginate.equalsIgnoreCase("false") &&
+                !paginate.isEmpty();
+    }
+
     public void setPage(String page) {
         try {
             int parsedPage = Integer.parseInt(page);
@@ -113,4 +130,8 @@ public class GetTasksValidator {
             this.limit = 6;
         }
     }
+
+    public void setCursor(String cursor) {
+        this.cursor = (cursor == null) ? null : cursor.trim();
+    }
 }
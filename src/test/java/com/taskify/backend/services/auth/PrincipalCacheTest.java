@@ -0,0 +1,67 @@
+package com.taskify.backend.services.auth;
+
+import com.taskify.backend.models.auth.User;
+import com.taskify.backend.repository.auth.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * What is cached, and that invalidate makes the next request see the stored user.
+ */
+class PrincipalCacheTest {
+
+    private UserRepository userRepository;
+    private PrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        cache = new PrincipalCache(userRepository, 100, 300);
+    }
+
+    @Test
+    void userIsLoadedOnceAndThenServedFromTheCache() {
+        stub("u1", "Alice");
+
+        assertThat(cache.findById("u1")).map(User::getFullName).contains("Alice");
+        assertThat(cache.findById("u1")).isPresent();
+
+        verify(userRepository, times(1)).findById("u1");
+    }
+
+    @Test
+    void unknownUserIsNotCachedSoANewAccountIsVisibleRightAway() {
+        when(userRepository.findById("u1")).thenReturn(Optional.empty());
+        assertThat(cache.findById("u1")).isEmpty();
+
+        stub("u1", "Alice");
+        assertThat(cache.findById("u1")).isPresent();
+    }
+
+    @Test
+    void invalidateReloadsOnlyThatUser() {
+        stub("u1", "Alice");
+        stub("u2", "Bob");
+        cache.findById("u1");
+        cache.findById("u2");
+
+        stub("u1", "Alice Renamed");
+        cache.invalidate("u1");
+
+        assertThat(cache.findById("u1")).map(User::getFullName).contains("Alice Renamed");
+        cache.findById("u2");
+        verify(userRepository, times(1)).findById("u2");
+    }
+
+    private void stub(String id, String fullName) {
+        User user = new User();
+        user.setId(id);
+        user.setFullName(fullName);
+        when(userRepository.findById(id)).thenReturn(Optional.of(user));
+    }
+}
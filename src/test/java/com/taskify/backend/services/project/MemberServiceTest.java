@@ -0,0 +1,151 @@
+package com.taskify.backend.services.project;
+
+import com.taskify.backend.constants.MemberEnums.InvitationStatus;
+import com.taskify.backend.constants.MemberEnums.MemberRole;
+import com.taskify.backend.dto.Member.GetMembersResponseDto;
+import com.taskify.backend.models.auth.User;
+import com.taskify.backend.models.project.Member;
+import com.taskify.backend.repository.auth.UserRepository;
+import com.taskify.backend.repository.project.MemberHydrator;
+import com.taskify.backend.repository.project.MemberRepository;
+import com.taskify.backend.repository.project.ProjectRepository;
+import com.taskify.backend.services.shared.NotificationService;
+import com.taskify.backend.services.shared.SequenceService;
+import com.taskify.backend.services.shared.TokenService;
+import com.taskify.backend.validators.project.GetMembersQuery;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * The Mongo-side filter and paging of getMembers.
+ */
+class MemberServiceTest {
+
+    private static final String PROJECT = "project-1";
+
+    private MongoTemplate mongoTemplate;
+    private MemberService service;
+    private final User user = new User();
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        MembershipCache membershipCache = mock(MembershipCache.class);
+        MemberHydrator memberHydrator = mock(MemberHydrator.class);
+        service = new MemberService(mongoTemplate, mock(ProjectRepository.class), mock(MemberRepository.class),
+                mock(UserRepository.class), memberHydrator, mock(TokenService.class), mock(NotificationService.class),
+                mock(SequenceService.class), membershipCache);
+
+        user.setId("user-1");
+        Member caller = member("caller");
+        caller.setInvitationStatus(InvitationStatus.ACCEPTED);
+        when(membershipCache.find("user-1", PROJECT)).thenReturn(Optional.of(caller));
+        when(memberHydrator.withUsers(any())).thenReturn(mock(MemberHydrator.Members.class));
+    }
+
+    @Test
+    void emailIsAnEscapedAnchoredPrefixAndStatusAnExactMatch() {
+        membersPage(List.of());
+
+        service.getMembers(user, query("a.b+", "accepted", 1, 10));
+
+        Document filter = findQuery().getQueryObject();
+        assertThat(filter.get("projectId")).isEqualTo(PROJECT);
+        assertThat(filter.get("invitationStatus")).isEqualTo(InvitationStatus.ACCEPTED);
+        Pattern email = (Pattern) filter.get("email");
+        assertThat(email.pattern()).isEqualTo("^\\Qa.b+\\E");
+        assertThat(email.flags() & Pattern.CASE_INSENSITIVE).isNotZero();
+        assertThat(email.matcher("A.B+c@example.com").find()).isTrue();
+        assertThat(email.matcher("axb+c@example.com").find()).isFalse();
+    }
+
+    @Test
+    void emptyFiltersOnlyMatchTheProject() {
+        membersPage(List.of());
+
+        service.getMembers(user, query("", "", 1, 10));
+
+        assertThat(findQuery().getQueryObject()).containsOnlyKeys("projectId");
+    }
+
+    @Test
+    void pageIsSkippedAndLimitedInTheQuery() {
+        membersPage(members(5));
+        when(mongoTemplate.count(any(Query.class), eq(Member.class))).thenReturn(25L);
+
+        GetMembersResponseDto response = service.getMembers(user, query("", "", 3, 5));
+
+        Query find = findQuery();
+        assertThat(find.getSkip()).isEqualTo(10);
+        assertThat(find.getLimit()).isEqualTo(5);
+        assertThat(find.getSortObject()).isEqualTo(new Document("_id", 1));
+        assertThat(response.getTotal()).isEqualTo(25);
+        assertThat(response.getTotalPages()).isEqualTo(5);
+        assertThat(response.getSerialNumberStartFrom()).isEqualTo(11);
+        assertThat(response.getPrevPage()).isEqualTo(2);
+        assertThat(response.getNextPage()).isEqualTo(4);
+    }
+
+    @Test
+    void partialFirstPageIsItsOwnTotalWithoutACount() {
+        membersPage(members(3));
+
+        GetMembersResponseDto response = service.getMembers(user, query("", "", 1, 10));
+
+        assertThat(response.getTotal()).isEqualTo(3);
+        assertThat(response.getMembers()).hasSize(3);
+        assertThat(response.isHasNextPage()).isFalse();
+        verify(mongoTemplate, never()).count(any(Query.class), eq(Member.class));
+    }
+
+    private void membersPage(List<Member> members) {
+        when(mongoTemplate.find(any(Query.class), eq(Member.class))).thenReturn(members);
+    }
+
+    private Query findQuery() {
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Member.class));
+        return query.getValue();
+    }
+
+    private static GetMembersQuery query(String email, String invitationStatus, int page, int limit) {
+        GetMembersQuery query = new GetMembersQuery();
+        query.setProjectId(PROJECT);
+        query.setEmail(email);
+        query.setInvitationStatus(invitationStatus);
+        query.setPage(page);
+        query.setLimit(limit);
+        return query;
+    }
+
+    private static List<Member> members(int count) {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            members.add(member("member-" + i));
+        }
+        return members;
+    }
+
+    private static Member member(String id) {
+        Member member = new Member();
+        member.setId(id);
+        member.setProjectId(PROJECT);
+        member.setEmail(id + "@example.com");
+        member.setRole(MemberRole.MEMBER);
+        return member;
+    }
+}
@@ -0,0 +1,95 @@
+package com.taskify.backend.services.project;
+
+import com.taskify.backend.constants.MemberEnums.MemberRole;
+import com.taskify.backend.models.project.Member;
+import com.taskify.backend.repository.project.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * What is cached, and that each invalidation drops exactly the memberships it names.
+ */
+class MembershipCacheTest {
+
+    private MemberRepository memberRepository;
+    private MembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        cache = new MembershipCache(memberRepository, 100, 60);
+    }
+
+    @Test
+    void membershipIsLoadedOnceAndThenServedFromTheCache() {
+        stub("alice", "p1", MemberRole.MEMBER);
+
+        assertThat(cache.find("alice", "p1")).map(Member::getRole).contains(MemberRole.MEMBER);
+        assertThat(cache.find("alice", "p1")).isPresent();
+
+        verify(memberRepository, times(1)).findByUserIdAndProjectId("alice", "p1");
+    }
+
+    @Test
+    void missingMembershipIsNotCachedSoANewInvitationShowsUpRightAway() {
+        when(memberRepository.findByUserIdAndProjectId("alice", "p1")).thenReturn(Optional.empty());
+        assertThat(cache.find("alice", "p1")).isEmpty();
+
+        stub("alice", "p1", MemberRole.MEMBER);
+        assertThat(cache.find("alice", "p1")).isPresent();
+    }
+
+    @Test
+    void invalidateReloadsTheChangedMembership() {
+        stub("alice", "p1", MemberRole.MEMBER);
+        cache.find("alice", "p1");
+
+        stub("alice", "p1", MemberRole.ADMIN);
+        assertThat(cache.find("alice", "p1")).map(Member::getRole).contains(MemberRole.MEMBER);
+
+        cache.invalidate("alice", "p1");
+        assertThat(cache.find("alice", "p1")).map(Member::getRole).contains(MemberRole.ADMIN);
+    }
+
+    @Test
+    void invalidateProjectDropsEveryMembershipOfThatProjectOnly() {
+        stub("alice", "p1", MemberRole.MEMBER);
+        stub("bob", "p1", MemberRole.MEMBER);
+        stub("alice", "xp1", MemberRole.MEMBER);
+        cache.find("alice", "p1");
+        cache.find("bob", "p1");
+        cache.find("alice", "xp1");
+
+        cache.invalidateProject("p1");
+        cache.find("alice", "p1");
+        cache.find("bob", "p1");
+        cache.find("alice", "xp1");
+
+        verify(memberRepository, times(2)).findByUserIdAndProjectId("alice", "p1");
+        verify(memberRepository, times(2)).findByUserIdAndProjectId("bob", "p1");
+        verify(memberRepository, times(1)).findByUserIdAndProjectId("alice", "xp1");
+    }
+
+    @Test
+    void callersGetTheirOwnCopy() {
+        stub("alice", "p1", MemberRole.MEMBER);
+
+        cache.find("alice", "p1").orElseThrow().setRole(MemberRole.OWNER);
+
+        assertThat(cache.find("alice", "p1")).map(Member::getRole).contains(MemberRole.MEMBER);
+    }
+
+    private void stub(String userId, String projectId, MemberRole role) {
+        Member member = new Member();
+        member.setId(userId + "-" + projectId);
+        member.setUserId(userId);
+        member.setProjectId(projectId);
+        member.setRole(role);
+        when(memberRepository.findByUserIdAndProjectId(userId, projectId)).thenReturn(Optional.of(member));
+    }
+}
@@ -0,0 +1,89 @@
+package com.taskify.backend.services.project;
+
+import com.taskify.backend.models.project.Label;
+import com.taskify.backend.repository.project.LabelRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * What is cached per project, the oversized-project fallback, and invalidation.
+ */
+class ProjectLabelCacheTest {
+
+    private static final int MAX_PER_PROJECT = 3;
+
+    private LabelRepository labelRepository;
+    private ProjectLabelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        labelRepository = mock(LabelRepository.class);
+        cache = new ProjectLabelCache(labelRepository, 100, MAX_PER_PROJECT, 600);
+    }
+
+    @Test
+    void labelSetIsLoadedOnceAndThenServedFromTheCache() {
+        stub("p1", 2);
+
+        assertThat(cache.findByProjectId("p1")).hasValueSatisfying(labels -> assertThat(labels).hasSize(2));
+        cache.findByProjectId("p1");
+
+        verify(labelRepository, times(1)).findByProjectId(eq("p1"), any(Sort.class), any(Limit.class));
+    }
+
+    @Test
+    void oversizedProjectIsRememberedAsUncacheable() {
+        stub("p1", MAX_PER_PROJECT + 1);
+
+        assertThat(cache.findByProjectId("p1")).isEmpty();
+        assertThat(cache.findByProjectId("p1")).isEmpty();
+
+        verify(labelRepository, times(1)).findByProjectId("p1", ProjectLabelCache.LABEL_ORDER, Limit.of(MAX_PER_PROJECT + 1));
+    }
+
+    @Test
+    void invalidateReloadsOnlyThatProject() {
+        stub("p1", 1);
+        stub("p2", 1);
+        cache.findByProjectId("p1");
+        cache.findByProjectId("p2");
+
+        stub("p1", 2);
+        cache.invalidate("p1");
+
+        assertThat(cache.findByProjectId("p1")).hasValueSatisfying(labels -> assertThat(labels).hasSize(2));
+        cache.findByProjectId("p2");
+        verify(labelRepository, times(1)).findByProjectId(eq("p2"), any(Sort.class), any(Limit.class));
+    }
+
+    @Test
+    void invalidatingAnOversizedProjectLetsItBeCachedOnceItShrinks() {
+        stub("p1", MAX_PER_PROJECT + 1);
+        assertThat(cache.findByProjectId("p1")).isEmpty();
+
+        stub("p1", MAX_PER_PROJECT);
+        cache.invalidate("p1");
+
+        assertThat(cache.findByProjectId("p1")).isPresent();
+    }
+
+    private void stub(String projectId, int count) {
+        List<Label> labels = new ArrayList<>();
+        Instant now = Instant.now();
+        for (int i = 0; i < count; i++) {
+            labels.add(new Label(projectId + "-" + i, projectId, "label-" + i, "", "#000000", now, now));
+        }
+        when(labelRepository.findByProjectId(eq(projectId), any(Sort.class), any(Limit.class))).thenReturn(labels);
+    }
+}
@@ -0,0 +1,255 @@
+package com.taskify.backend.services.project;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.taskify.backend.constants.MemberEnums.MemberRole;
+import com.taskify.backend.constants.TaskEnums.TaskBulkAction;
+import com.taskify.backend.constants.TaskEnums.TaskStatus;
+import com.taskify.backend.models.auth.User;
+import com.taskify.backend.models.project.Member;
+import com.taskify.backend.models.project.Task;
+import com.taskify.backend.repository.project.*;
+import com.taskify.backend.services.shared.NotificationService;
+import com.taskify.backend.services.shared.SequenceService;
+import com.taskify.backend.validators.project.BulkTaskOperationsValidator;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Per-index failure reporting and the conditional bulk writes of bulkUpdateTasks.
+ */
+class TaskServiceBulkTest {
+
+    private static final String PROJECT = "project-1";
+
+    private MongoTemplate mongoTemplate;
+    private MemberRepository memberRepository;
+    private TaskStatsService taskStatsService;
+    private MembershipCache membershipCache;
+    private TaskService service;
+
+    private final User user = new User();
+    private final Member admin = member("admin", MemberRole.ADMIN);
+    private final Member alice = member("alice", MemberRole.MEMBER);
+    private final Member bob = member("bob", MemberRole.MEMBER);
+
+    // Every Task bulk handed out, in order, with the updateOne calls it received
+    private final List<List<Document[]>> bulks = new ArrayList<>();
+    private final Deque<Integer> matchedCounts = new ArrayDeque<>();
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        memberRepository = mock(MemberRepository.class);
+        taskStatsService = mock(TaskStatsService.class);
+        membershipCache = mock(MembershipCache.class);
+        service = new TaskService(mock(TaskRepository.class), mock(ProjectRepository.class), memberRepository,
+                mock(CommentRepository.class), mock(TaskActivityRepository.class), mongoTemplate,
+                mock(NotificationService.class), mock(SequenceService.class), taskStatsService, membershipCache);
+
+        user.setId("user-1");
+        when(membershipCache.find("user-1", PROJECT)).thenReturn(Optional.of(admin));
+        when(memberRepository.findAllById(any())).thenReturn(List.of(alice, bob));
+        when(taskStatsService.snapshot(any())).thenCallRealMethod();
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(Task.class)))
+                .thenAnswer(invocation -> recordingBulk());
+    }
+
+    @Test
+    void failuresAreReportedByIndexAndTheRestIsWrittenInOneConditionalBulk() {
+        loadTasks(task("t1", TaskStatus.TODO, "alice"));
+        matchedCounts.add(1);
+
+        Map<String, Object> result = service.bulkUpdateTasks(user, body(
+                changeStatus("t1", TaskStatus.IN_PROGRESS),
+                assign("t1", "nobody"),
+                changeStatus("missing", TaskStatus.COMPLETED),
+                unassign("t1", "bob")));
+
+        assertThat(result.get("applied")).isEqualTo(1);
+        assertThat(result.get("matchedTasks")).isEqualTo(1);
+        assertThat(failures(result)).containsExactly(
+                Map.entry(1, "Assignee not found"),
+                Map.entry(2, "Task not found"),
+                Map.entry(3, "Member is not assigned"));
+
+        assertThat(bulks.get(0)).hasSize(1);
+        Document filter = bulks.get(0).get(0)[0];
+        assertThat(filter.get("_id")).isEqualTo("t1");
+        assertThat(filter.get("projectId")).isEqualTo(PROJECT);
+        assertThat(filter.get("status")).isEqualTo(TaskStatus.TODO);
+        assertThat(filter.get("isDeleted")).isEqualTo(new Document("$ne", true));
+        assertThat(bulks.get(0).get(0)[1].get("$set", Document.class).get("status")).isEqualTo(TaskStatus.IN_PROGRESS);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writeThatDidNotMatchIsReportedAndLeftOutOfTheStats() {
+        Task first = task("t1", TaskStatus.TODO);
+        Task second = task("t2", TaskStatus.TODO);
+        loadTasks(first, second);
+        matchedCounts.add(1);
+        // The re-read of the stamped tasks finds only t1
+        when(mongoTemplate.find(any(Query.class), eq(Task.class)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(task("t1", TaskStatus.IN_PROGRESS)));
+
+        Map<String, Object> result = service.bulkUpdateTasks(user, body(
+                changeStatus("t1", TaskStatus.IN_PROGRESS),
+                changeStatus("t2", TaskStatus.IN_PROGRESS)));
+
+        assertThat(result.get("applied")).isEqualTo(1);
+        assertThat(result.get("matchedTasks")).isEqualTo(1);
+        assertThat(failures(result)).containsExactly(Map.entry(1, "Task was changed or deleted concurrently"));
+
+        ArgumentCaptor<List<Task>> after = ArgumentCaptor.forClass(List.class);
+        verify(taskStatsService).recordChanges(anyList(), after.capture());
+        assertThat(after.getValue()).extracting(Task::getId).containsExactly("t1");
+    }
+
+    @Test
+    void assigneesAddedAndRemovedOnOneTaskArePulledInASecondBulk() {
+        loadTasks(task("t1", TaskStatus.TODO, "alice"));
+        matchedCounts.add(1);
+        matchedCounts.add(1);
+
+        Map<String, Object> result = service.bulkUpdateTasks(user, body(
+                assign("t1", "bob"),
+                unassign("t1", "alice")));
+
+        assertThat(result.get("applied")).isEqualTo(2);
+        assertThat(bulks).hasSize(2);
+        assertThat(bulks.get(0).get(0)[1]).containsKey("$addToSet").doesNotContainKey("$pullAll");
+        assertThat(bulks.get(1).get(0)[1].get("$pullAll", Document.class).get("assignees"))
+                .isEqualTo(List.of("alice"));
+    }
+
+    @Test
+    void operationsBeforeADeleteInTheSameBatchAreNotWritten() {
+        loadTasks(task("t1", TaskStatus.TODO, "alice"));
+        matchedCounts.add(1);
+
+        Map<String, Object> result = service.bulkUpdateTasks(user, body(
+                changeStatus("t1", TaskStatus.COMPLETED),
+                delete("t1")));
+
+        assertThat(result.get("applied")).isEqualTo(1);
+        assertThat(failures(result)).containsExactly(Map.entry(0, "Task is deleted later in this batch"));
+        Document set = bulks.get(0).get(0)[1].get("$set", Document.class);
+        assertThat(set.get("isDeleted")).isEqualTo(true);
+        assertThat(set).doesNotContainKey("status");
+    }
+
+    @Test
+    void plainMemberMayOnlyDeleteTheirOwnTasks() {
+        Member creator = member("creator", MemberRole.MEMBER);
+        when(membershipCache.find("user-1", PROJECT)).thenReturn(Optional.of(creator));
+        Task own = task("t1", TaskStatus.TODO);
+        own.setMemberId("creator");
+        loadTasks(own, task("t2", TaskStatus.TODO));
+        matchedCounts.add(1);
+
+        Map<String, Object> result = service.bulkUpdateTasks(user, body(delete("t1"), delete("t2")));
+
+        assertThat(failures(result)).containsExactly(Map.entry(1, "You are not allowed to delete this task"));
+        assertThat(bulks.get(0).get(0)[0].get("memberId")).isEqualTo("creator");
+    }
+
+    private void loadTasks(Task... tasks) {
+        when(mongoTemplate.find(any(Query.class), eq(Task.class))).thenReturn(List.of(tasks));
+    }
+
+    private BulkOperations recordingBulk() {
+        List<Document[]> updates = new ArrayList<>();
+        bulks.add(updates);
+        return mock(BulkOperations.class, invocation -> {
+            String method = invocation.getMethod().getName();
+            if (method.equals("updateOne") && invocation.getArguments().length == 2) {
+                Query query = invocation.getArgument(0);
+                UpdateDefinition update = invocation.getArgument(1);
+                updates.add(new Document[]{query.getQueryObject(), update.getUpdateObject()});
+            }
+            if (method.equals("execute")) {
+                int matched = matchedCounts.isEmpty() ? updates.size() : matchedCounts.poll();
+                return BulkWriteResult.acknowledged(0, matched, 0, matched, List.of(), List.of());
+            }
+            return invocation.getMethod().getReturnType().isInstance(invocation.getMock()) ? invocation.getMock() : null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map.Entry<Integer, String>> failures(Map<String, Object> result) {
+        return ((List<Map<String, Object>>) result.get("failed")).stream()
+                .map(failure -> Map.entry((Integer) failure.get("index"), (String) failure.get("message")))
+                .toList();
+    }
+
+    private static BulkTaskOperationsValidator body(BulkTaskOperationsValidator.Operation... operations) {
+        BulkTaskOperationsValidator body = new BulkTaskOperationsValidator();
+        body.setProjectId(PROJECT);
+        body.setOperations(List.of(operations));
+        return body;
+    }
+
+    private static BulkTaskOperationsValidator.Operation changeStatus(String taskId, TaskStatus status) {
+        BulkTaskOperationsValidator.Operation op = operation(taskId, TaskBulkAction.CHANGE_STATUS);
+        op.setStatus(status);
+        return op;
+    }
+
+    private static BulkTaskOperationsValidator.Operation assign(String taskId, String memberId) {
+        BulkTaskOperationsValidator.Operation op = operation(taskId, TaskBulkAction.ASSIGN_MEMBER);
+        op.setMemberId(memberId);
+        return op;
+    }
+
+    private static BulkTaskOperationsValidator.Operation unassign(String taskId, String memberId) {
+        BulkTaskOperationsValidator.Operation op = operation(taskId, TaskBulkAction.REMOVE_ASSIGNED_MEMBER);
+        op.setMemberId(memberId);
+        return op;
+    }
+
+    private static BulkTaskOperationsValidator.Operation delete(String taskId) {
+        return operation(taskId, TaskBulkAction.DELETE);
+    }
+
+    private static BulkTaskOperationsValidator.Operation operation(String taskId, TaskBulkAction action) {
+        BulkTaskOperationsValidator.Operation op = new BulkTaskOperationsValidator.Operation();
+        op.setTaskId(taskId);
+        op.setAction(action);
+        return op;
+    }
+
+    private static Task task(String id, TaskStatus status, String... assignees) {
+        return Task.builder()
+                .id(id)
+                .projectId(PROJECT)
+                .memberId("someone")
+                .status(status)
+                .assignees(new ArrayList<>(List.of(assignees)))
+                .isDeleted(false)
+                .build();
+    }
+
+    private static Member member(String id, MemberRole role) {
+        Member member = new Member();
+        member.setId(id);
+        member.setProjectId(PROJECT);
+        member.setEmail(id + "@example.com");
+        member.setRole(role);
+        return member;
+    }
+}
@@ -0,0 +1,215 @@
+package com.taskify.backend.services.project;
+
+import com.taskify.backend.constants.TaskEnums.TaskStatus;
+import com.taskify.backend.models.project.MemberTaskStats;
+import com.taskify.backend.models.project.Task;
+import com.taskify.backend.models.project.TaskCompletionDay;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * The snapshot/delta rules, checked through the $inc upserts they produce.
+ */
+class TaskStatsServiceTest {
+
+    private static final String PROJECT = "project-1";
+    private static final String CREATOR = "creator";
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 14);
+
+    private MongoTemplate mongoTemplate;
+    private TaskStatsService service;
+
+    // _id of the upserted document -> its $inc
+    private final Map<String, Document> memberIncs = new HashMap<>();
+    private final Map<String, Document> completionIncs = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(MemberTaskStats.class)))
+                .thenAnswer(invocation -> recordingBulk(memberIncs));
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(TaskCompletionDay.class)))
+                .thenAnswer(invocation -> recordingBulk(completionIncs));
+        service = new TaskStatsService(mongoTemplate);
+    }
+
+    @Test
+    void createdTaskCountsForItsCreatorAndAssignees() {
+        service.recordCreated(task(TaskStatus.TODO, null, "alice", "bob"));
+
+        assertThat(memberIncs).containsOnlyKeys(CREATOR, "alice", "bob");
+        assertThat(memberIncs.get(CREATOR)).containsExactly(entry("created", 1L));
+        assertThat(memberIncs.get("alice")).containsExactly(entry("assigned.TODO", 1L));
+        assertThat(memberIncs.get("bob")).containsExactly(entry("assigned.TODO", 1L));
+        assertThat(completionIncs).isEmpty();
+    }
+
+    @Test
+    void statusTransitionMovesAssigneesBetweenBucketsAndLeavesTheCreatorAlone() {
+        Task task = task(TaskStatus.TODO, null, "alice");
+        TaskStatsService.TaskSnapshot before = service.snapshot(task);
+        task.setStatus(TaskStatus.IN_PROGRESS);
+
+        service.recordChange(before, task);
+
+        assertThat(memberIncs).containsOnlyKeys("alice");
+        assertThat(memberIncs.get("alice")).containsOnly(entry("assigned.TODO", -1L), entry("assigned.IN_PROGRESS", 1L));
+    }
+
+    @Test
+    void completingATaskAddsToTheDailyRollupOfTheProjectAndEachAssignee() {
+        Task task = task(TaskStatus.UNDER_REVIEW, null, "alice");
+        TaskStatsService.TaskSnapshot before = service.snapshot(task);
+        task.setStatus(TaskStatus.COMPLETED);
+        task.setCompletedDate(DAY);
+
+        service.recordChange(before, task);
+
+        assertThat(memberIncs.get("alice")).containsOnly(entry("assigned.UNDER_REVIEW", -1L), entry("assigned.COMPLETED", 1L));
+        assertThat(completionIncs).containsOnlyKeys(
+                TaskCompletionDay.idOf(PROJECT, TaskCompletionDay.PROJECT_TOTAL, DAY.toString()),
+                TaskCompletionDay.idOf(PROJECT, "alice", DAY.toString()));
+        assertThat(completionIncs.values()).allSatisfy(inc -> assertThat(inc).containsExactly(entry("count", 1L)));
+    }
+
+    @Test
+    void reopeningACompletedTaskTakesItOutOfTheRollupAgain() {
+        Task task = task(TaskStatus.COMPLETED, DAY, "alice");
+        TaskStatsService.TaskSnapshot before = service.snapshot(task);
+        task.setStatus(TaskStatus.TODO);
+        task.setCompletedDate(null);
+
+        service.recordChange(before, task);
+
+        assertThat(completionIncs.values()).hasSize(2)
+                .allSatisfy(inc -> assertThat(inc).containsExactly(entry("count", -1L)));
+    }
+
+    @Test
+    void addingAndRemovingAssigneesOnlyTouchesThoseMembers() {
+        Task task = task(TaskStatus.IN_PROGRESS, null, "alice", "bob");
+        TaskStatsService.TaskSnapshot before = service.snapshot(task);
+        task.setAssignees(new ArrayList<>(List.of("bob", "carol")));
+
+        service.recordChange(before, task);
+
+        assertThat(memberIncs).containsOnlyKeys("alice", "carol");
+        assertThat(memberIncs.get("alice")).containsExactly(entry("assigned.IN_PROGRESS", -1L));
+        assertThat(memberIncs.get("carol")).containsExactly(entry("assigned.IN_PROGRESS", 1L));
+    }
+
+    @Test
+    void deletingATaskRemovesEveryContribution() {
+        Task task = task(TaskStatus.COMPLETED, DAY, "alice");
+        TaskStatsService.TaskSnapshot before = service.snapshot(task);
+        task.setIsDeleted(true);
+
+        service.recordChange(before, task);
+
+        assertThat(memberIncs.get(CREATOR)).containsExactly(entry("created", -1L));
+        assertThat(memberIncs.get("alice")).containsExactly(entry("assigned.COMPLETED", -1L));
+        assertThat(completionIncs.values()).hasSize(2)
+                .allSatisfy(inc -> assertThat(inc).containsExactly(entry("count", -1L)));
+    }
+
+    @Test
+    void changeThatDoesNotAffectTheCountersWritesNothing() {
+        Task task = task(TaskStatus.TODO, null, "alice");
+        TaskStatsService.TaskSnapshot before = service.snapshot(task);
+        task.setTitle("Renamed");
+
+        service.recordChange(before, task);
+
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), any(Class.class));
+    }
+
+    @Test
+    void batchedChangesAreSummedIntoOneWrite() {
+        Task first = task(TaskStatus.TODO, null, "alice");
+        Task second = task(TaskStatus.TODO, null, "alice");
+        List<TaskStatsService.TaskSnapshot> before = List.of(service.snapshot(first), service.snapshot(second));
+        first.setStatus(TaskStatus.IN_PROGRESS);
+        second.setStatus(TaskStatus.IN_PROGRESS);
+
+        service.recordChanges(before, List.of(first, second));
+
+        assertThat(memberIncs.get("alice")).containsOnly(entry("assigned.TODO", -2L), entry("assigned.IN_PROGRESS", 2L));
+        verify(mongoTemplate, times(1)).bulkOps(any(BulkOperations.BulkMode.class), eq(MemberTaskStats.class));
+    }
+
+    @Test
+    void negativeCounterIsRepairedByRebuildingItsProject() {
+        MemberTaskStats drifted = MemberTaskStats.builder()
+                .id("alice")
+                .projectId(PROJECT)
+                .assigned(new HashMap<>(Map.of("TODO", -1L)))
+                .build();
+        when(mongoTemplate.find(any(Query.class), eq(MemberTaskStats.class))).thenReturn(List.of(drifted));
+        when(mongoTemplate.stream(any(Query.class), eq(Task.class))).thenReturn(Stream.empty());
+
+        assertThat(service.findByMemberIds(List.of("alice"))).containsExactly(drifted);
+
+        ArgumentCaptor<Query> rebuild = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, timeout(5_000)).stream(rebuild.capture(), eq(Task.class));
+        assertThat(rebuild.getValue().getQueryObject().get("projectId")).isEqualTo(PROJECT);
+    }
+
+    @Test
+    void countersAtOrAboveZeroTriggerNoRebuild() {
+        MemberTaskStats healthy = MemberTaskStats.builder()
+                .id("alice")
+                .projectId(PROJECT)
+                .assigned(new HashMap<>(Map.of("TODO", 0L)))
+                .created(2)
+                .build();
+        when(mongoTemplate.find(any(Query.class), eq(MemberTaskStats.class))).thenReturn(List.of(healthy));
+
+        service.findByMemberIds(List.of("alice"));
+        service.shutdown();
+
+        verify(mongoTemplate, never()).stream(any(Query.class), eq(Task.class));
+    }
+
+    private static Task task(TaskStatus status, LocalDate completedDate, String... assignees) {
+        return Task.builder()
+                .id("task")
+                .projectId(PROJECT)
+                .memberId(CREATOR)
+                .title("Task")
+                .status(status)
+                .completedDate(completedDate)
+                .assignees(new ArrayList<>(List.of(assignees)))
+                .build();
+    }
+
+    private static BulkOperations recordingBulk(Map<String, Document> incs) {
+        return mock(BulkOperations.class, invocation -> {
+            if (invocation.getMethod().getName().equals("upsert") && invocation.getArguments().length == 2) {
+                Query query = invocation.getArgument(0);
+                UpdateDefinition update = invocation.getArgument(1);
+                Document inc = update.getUpdateObject().get("$inc", Document.class);
+                incs.put(String.valueOf(query.getQueryObject().get("_id")), inc != null ? inc : new Document());
+            }
+            return invocation.getMethod().getReturnType().isInstance(invocation.getMock()) ? invocation.getMock() : null;
+        });
+    }
+}
@@ -0,0 +1,242 @@
+package com.taskify.backend.services.shared;
+
+import com.taskify.backend.constants.NotificationEnums.EmailStatus;
+import com.taskify.backend.models.shared.OutboundEmail;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the worker against an in-process fake SMTP sink, with the outbox collection mocked.
+ */
+class EmailOutboxWorkerTest {
+
+    private FakeSmtpServer smtp;
+    private MongoTemplate mongoTemplate;
+    private EmailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtp = new FakeSmtpServer();
+        mongoTemplate = mock(MongoTemplate.class);
+
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtp.getPort());
+
+        EmailTemplateRenderer renderer = mock(EmailTemplateRenderer.class);
+        when(renderer.render(anyString(), anyMap())).thenReturn("<p>Hello</p>");
+
+        worker = new EmailOutboxWorker(mongoTemplate, mailSender, renderer, 2);
+        ReflectionTestUtils.setField(worker, "fromEmail", "noreply@taskify.test");
+        ReflectionTestUtils.setField(worker, "batchSize", 50);
+        ReflectionTestUtils.setField(worker, "messagesPerConnection", 2);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 5);
+        ReflectionTestUtils.setField(worker, "backoffSeconds", 30L);
+        ReflectionTestUtils.setField(worker, "lockSeconds", 300L);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        worker.shutdown();
+        smtp.close();
+    }
+
+    @Test
+    void sendsClaimedEmailsInBatchesOverOneConnectionEach() {
+        claimInOrder(email("1", "a@taskify.test", 1), email("2", "b@taskify.test", 1), email("3", "c@taskify.test", 1));
+
+        worker.drain();
+
+        List<Document> updates = awaitStatusUpdates(3);
+        assertThat(updates).allSatisfy(update -> {
+            assertThat(set(update).get("status")).isEqualTo(EmailStatus.SENT);
+            assertThat(unset(update)).containsKey("variables");
+        });
+        assertThat(smtp.recipients).containsExactlyInAnyOrder("a@taskify.test", "b@taskify.test", "c@taskify.test");
+        // Three messages with two per connection
+        assertThat(smtp.connections.get()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectedRecipientIsRescheduledWhileTheRestOfTheBatchIsSent() {
+        claimInOrder(email("1", "a@taskify.test", 1), email("2", "reject@taskify.test", 1));
+
+        worker.drain();
+
+        List<Document> updates = awaitStatusUpdates(2);
+        assertThat(updates).extracting(update -> set(update).get("status"))
+                .containsExactlyInAnyOrder(EmailStatus.SENT, EmailStatus.PENDING);
+        Document retry = updates.stream().filter(update -> set(update).get("status") == EmailStatus.PENDING)
+                .findFirst().orElseThrow();
+        assertThat(set(retry)).containsKeys("nextAttemptAt", "lastError");
+        assertThat(unset(retry)).doesNotContainKey("variables");
+    }
+
+    @Test
+    void lastFailedAttemptParksTheEmailAndDropsItsVariables() {
+        claimInOrder(email("1", "reject@taskify.test", 5));
+
+        worker.drain();
+
+        Document update = awaitStatusUpdates(1).get(0);
+        assertThat(set(update).get("status")).isEqualTo(EmailStatus.FAILED);
+        assertThat(unset(update)).containsKey("variables");
+    }
+
+    @Test
+    void entryReclaimedPastMaxAttemptsFailsWithoutBeingSent() {
+        claimInOrder(email("1", "a@taskify.test", 6));
+
+        worker.drain();
+
+        Document update = awaitStatusUpdates(1).get(0);
+        assertThat(set(update).get("status")).isEqualTo(EmailStatus.FAILED);
+        assertThat(smtp.connections.get()).isZero();
+    }
+
+    @Test
+    void claimCountsTheAttempt() {
+        claimInOrder();
+
+        worker.drain();
+
+        ArgumentCaptor<UpdateDefinition> claim = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), claim.capture(), any(FindAndModifyOptions.class),
+                eq(OutboundEmail.class));
+        assertThat(claim.getValue().getUpdateObject().get("$inc", Document.class).get("attempts")).isEqualTo(1);
+    }
+
+    private void claimInOrder(OutboundEmail... emails) {
+        Deque<OutboundEmail> due = new ArrayDeque<>(List.of(emails));
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class), any(FindAndModifyOptions.class),
+                eq(OutboundEmail.class)))
+                .thenAnswer(invocation -> due.poll());
+    }
+
+    private List<Document> awaitStatusUpdates(int count) {
+        ArgumentCaptor<UpdateDefinition> updates = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(mongoTemplate, timeout(5000).times(count)).updateFirst(any(Query.class), updates.capture(),
+                eq(OutboundEmail.class));
+        return updates.getAllValues().stream().map(UpdateDefinition::getUpdateObject).toList();
+    }
+
+    private static Document set(Document update) {
+        return update.get("$set", Document.class);
+    }
+
+    private static Document unset(Document update) {
+        Document unset = update.get("$unset", Document.class);
+        return unset != null ? unset : new Document();
+    }
+
+    private static OutboundEmail email(String id, String to, int attempts) {
+        return OutboundEmail.builder()
+                .id(id)
+                .to(to)
+                .subject("Subject " + id)
+                .template("assigned-task")
+                .variables(Map.of("link", "http://localhost/" + id))
+                .status(EmailStatus.SENDING)
+                .attempts(attempts)
+                .build();
+    }
+
+    /**
+     * Accepts every message except those addressed to reject@..., and records recipients and connections.
+     */
+    private static class FakeSmtpServer implements Closeable {
+        private final ServerSocket serverSocket;
+        private final AtomicInteger connections = new AtomicInteger();
+        private final List<String> recipients = new CopyOnWriteArrayList<>();
+
+        FakeSmtpServer() throws IOException {
+            serverSocket = new ServerSocket(0);
+            Thread thread = new Thread(this::acceptLoop, "fake-smtp");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        private void acceptLoop() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    connections.incrementAndGet();
+                    Thread session = new Thread(() -> serve(socket), "fake-smtp-session");
+                    session.setDaemon(true);
+                    session.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                 Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII)) {
+                reply(out, "220 fake-smtp ready");
+                String pendingRecipient = null;
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.toUpperCase();
+                    if (command.startsWith("RCPT TO:")) {
+                        pendingRecipient = line.substring(line.indexOf('<') + 1, line.indexOf('>'));
+                        reply(out, pendingRecipient.startsWith("reject@") ? "550 mailbox unavailable" : "250 OK");
+                    } else if (command.equals("DATA")) {
+                        reply(out, "354 end data with <CR><LF>.<CR><LF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // message body is not inspected
+                        }
+                        recipients.add(pendingRecipient);
+                        reply(out, "250 OK queued");
+                    } else if (command.equals("QUIT")) {
+                        reply(out, "221 bye");
+                        return;
+                    } else {
+                        reply(out, "250 OK");
+                    }
+                }
+            } catch (IOException e) {
+                // connection dropped by the client
+            }
+        }
+
+        private static void reply(Writer out, String line) throws IOException {
+            out.write(line + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
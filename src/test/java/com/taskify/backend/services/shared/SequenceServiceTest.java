@@ -0,0 +1,207 @@
+package com.taskify.backend.services.shared;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.taskify.backend.models.shared.Counter;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Limit semantics of the counters, against an in-memory stand-in for the counters collection that applies the
+ * same filters and operators the service sends.
+ */
+class SequenceServiceTest {
+
+    private final Map<String, Long> counters = new HashMap<>();
+    private SequenceService service;
+
+    @BeforeEach
+    void setUp() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class), eq(Counter.class)))
+                .thenAnswer(invocation -> modify(invocation.getArgument(0), invocation.getArgument(1), false));
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class), any(FindAndModifyOptions.class),
+                eq(Counter.class)))
+                .thenAnswer(invocation -> modify(invocation.getArgument(0), invocation.getArgument(1),
+                        ((FindAndModifyOptions) invocation.getArgument(2)).isReturnNew()));
+        when(mongoTemplate.upsert(any(Query.class), any(UpdateDefinition.class), eq(Counter.class)))
+                .thenAnswer(invocation -> {
+                    upsert(invocation.getArgument(0), invocation.getArgument(1));
+                    return UpdateResult.acknowledged(1, 1L, null);
+                });
+        when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(Counter.class)))
+                .thenAnswer(invocation -> {
+                    Counter modified = modify(invocation.getArgument(0), invocation.getArgument(1), true);
+                    long count = modified != null ? 1 : 0;
+                    return UpdateResult.acknowledged(count, count, null);
+                });
+        when(mongoTemplate.exists(any(Query.class), eq(Counter.class)))
+                .thenAnswer(invocation -> exists(invocation.getArgument(0)));
+        when(mongoTemplate.remove(any(Query.class), eq(Counter.class)))
+                .thenAnswer(invocation -> DeleteResult.acknowledged(remove(invocation.getArgument(0))));
+        service = new SequenceService(mongoTemplate);
+    }
+
+    @Test
+    void reserveSeedsAMissingSequenceFromTheHighestValueInUse() {
+        assertThat(service.reserve("taskNumber:p", 1, () -> 41)).isEqualTo(42);
+        assertThat(service.next("taskNumber:p", () -> 0)).isEqualTo(43);
+    }
+
+    @Test
+    void reserveHandsOutConsecutiveBlocks() {
+        assertThat(service.reserve("taskNumber:p", 5, () -> 0)).isEqualTo(1);
+        assertThat(service.reserve("taskNumber:p", 3, () -> 0)).isEqualTo(6);
+        assertThat(counters).containsEntry("taskNumber:p", 8L);
+    }
+
+    @Test
+    void concurrentReservationsNeverOverlap() throws Exception {
+        Set<Long> numbers = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                futures.add(pool.submit(() -> {
+                    long first = service.reserve("taskNumber:p", 3, () -> 0);
+                    for (long n = first; n < first + 3; n++) {
+                        assertThat(numbers.add(n)).isTrue();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(numbers).hasSize(120).allMatch(n -> n >= 1 && n <= 120);
+    }
+
+    @Test
+    void tryAcquireSeedsFromExistingDataAndStopsAtTheLimit() {
+        assertThat(service.tryAcquire("members:p", 3, () -> 1)).isTrue();
+        assertThat(service.tryAcquire("members:p", 3, () -> 1)).isTrue();
+        assertThat(service.tryAcquire("members:p", 3, () -> 1)).isFalse();
+        assertThat(counters).containsEntry("members:p", 3L);
+    }
+
+    @Test
+    void tryAcquireRefusesWhenTheSeedIsAlreadyAtTheLimit() {
+        assertThat(service.tryAcquire("projects:u", 1, () -> 1)).isFalse();
+        assertThat(counters).containsEntry("projects:u", 1L);
+    }
+
+    @Test
+    void concurrentAcquiresNeverOvershootTheLimit() throws Exception {
+        int limit = 10;
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                futures.add(pool.submit(() -> {
+                    if (service.tryAcquire("members:p", limit, () -> 0)) {
+                        granted.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(granted.get()).isEqualTo(limit);
+        assertThat(counters).containsEntry("members:p", (long) limit);
+    }
+
+    @Test
+    void releaseFreesASlotButNeverGoesBelowZero() {
+        service.tryAcquire("projects:u", 1, () -> 0);
+        assertThat(service.tryAcquire("projects:u", 1, () -> 0)).isFalse();
+
+        service.release("projects:u");
+        assertThat(service.tryAcquire("projects:u", 1, () -> 0)).isTrue();
+
+        service.release("projects:u");
+        service.release("projects:u");
+        assertThat(counters).containsEntry("projects:u", 0L);
+    }
+
+    @Test
+    void deleteRemovesOnlyTheNamedCounter() {
+        service.tryAcquire("members:p", 5, () -> 0);
+        service.tryAcquire("members:q", 5, () -> 0);
+
+        assertThat(service.delete("members:p")).isEqualTo(1);
+        assertThat(service.delete("members:p")).isZero();
+        assertThat(counters).containsOnlyKeys("members:q");
+    }
+
+    // ---- in-memory counters collection ----
+
+    private synchronized Counter modify(Query query, UpdateDefinition update, boolean returnNew) {
+        String name = (String) query.getQueryObject().get("_id");
+        Long seq = counters.get(name);
+        if (seq == null || !matches(query, seq)) {
+            return null;
+        }
+        long next = apply(update, seq);
+        counters.put(name, next);
+        return new Counter(name, returnNew ? next : seq);
+    }
+
+    private synchronized void upsert(Query query, UpdateDefinition update) {
+        String name = (String) query.getQueryObject().get("_id");
+        counters.put(name, apply(update, counters.getOrDefault(name, 0L)));
+    }
+
+    private synchronized boolean exists(Query query) {
+        return counters.containsKey((String) query.getQueryObject().get("_id"));
+    }
+
+    private synchronized long remove(Query query) {
+        return counters.remove((String) query.getQueryObject().get("_id")) != null ? 1 : 0;
+    }
+
+    private static boolean matches(Query query, long seq) {
+        Document condition = query.getQueryObject().get("seq", Document.class);
+        if (condition == null) {
+            return true;
+        }
+        if (condition.containsKey("$lt")) {
+            return seq < ((Number) condition.get("$lt")).longValue();
+        }
+        return seq > ((Number) condition.get("$gt")).longValue();
+    }
+
+    private static long apply(UpdateDefinition update, long seq) {
+        Document operators = update.getUpdateObject();
+        Document inc = operators.get("$inc", Document.class);
+        if (inc != null) {
+            return seq + ((Number) inc.get("seq")).longValue();
+        }
+        return Math.max(seq, ((Number) operators.get("$max", Document.class).get("seq")).longValue());
+    }
+}
@@ -0,0 +1,103 @@
+package com.taskify.backend.utils;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    private static final ObjectId ID = new ObjectId("65a1b2c3d4e5f60718293a4b");
+    private static final Date CREATED_AT = new Date(1_700_000_000_000L);
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        PageCursor decoded = PageCursor.decode(new PageCursor(CREATED_AT, ID).encode());
+
+        assertThat(decoded.getValue()).isEqualTo(CREATED_AT);
+        assertThat(decoded.getId()).isEqualTo(ID);
+    }
+
+    @Test
+    void nullSortValueRoundTrips() {
+        PageCursor decoded = PageCursor.decode(new PageCursor(null, ID).encode());
+
+        assertThat(decoded.getValue()).isNull();
+        assertThat(decoded.getId()).isEqualTo(ID);
+    }
+
+    @Test
+    void ofAcceptsHexStringIdsAndNonDateValues() {
+        PageCursor cursor = PageCursor.of("not a date", ID.toHexString());
+
+        assertThat(cursor.getValue()).isNull();
+        assertThat(cursor.getId()).isEqualTo(ID);
+    }
+
+    @Test
+    void malformedCursorsAreRejectedWith400() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("12345".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("12345|nope".getBytes(StandardCharsets.UTF_8));
+        String badMillis = Base64.getUrlEncoder().encodeToString(("abc|" + ID.toHexString()).getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of("%%%", noSeparator, badId, badMillis)) {
+            assertThatThrownBy(() -> PageCursor.decode(cursor))
+                    .isInstanceOf(ApiException.class)
+                    .satisfies(e -> assertThat(((ApiException) e).getstatusCode()).isEqualTo(400));
+        }
+    }
+
+    @Test
+    void afterDescendingIncludesSmallerValuesTiesWithSmallerIdsAndNulls() {
+        Document criteria = new PageCursor(CREATED_AT, ID).after("createdAt", Sort.Direction.DESC).getCriteriaObject();
+
+        List<Document> branches = criteria.getList("$or", Document.class);
+        assertThat(branches).hasSize(3);
+        assertThat(branches.get(0)).isEqualTo(new Document("createdAt", new Document("$lt", CREATED_AT)));
+        assertThat(branches.get(1).getList("$and", Document.class)).containsExactly(
+                new Document("createdAt", CREATED_AT),
+                new Document("_id", new Document("$lt", ID)));
+        assertThat(branches.get(2)).isEqualTo(new Document("createdAt", null));
+    }
+
+    @Test
+    void afterAscendingIncludesLargerValuesAndTiesWithLargerIds() {
+        Document criteria = new PageCursor(CREATED_AT, ID).after("createdAt", Sort.Direction.ASC).getCriteriaObject();
+
+        List<Document> branches = criteria.getList("$or", Document.class);
+        assertThat(branches).hasSize(2);
+        assertThat(branches.get(0)).isEqualTo(new Document("createdAt", new Document("$gt", CREATED_AT)));
+        assertThat(branches.get(1).getList("$and", Document.class)).containsExactly(
+                new Document("createdAt", CREATED_AT),
+                new Document("_id", new Document("$gt", ID)));
+    }
+
+    @Test
+    void afterNullValueDescendingOnlyContinuesWithinTheNulls() {
+        Document criteria = new PageCursor(null, ID).after("createdAt", Sort.Direction.DESC).getCriteriaObject();
+
+        assertThat(criteria.getList("$and", Document.class)).containsExactly(
+                new Document("createdAt", null),
+                new Document("_id", new Document("$lt", ID)));
+    }
+
+    @Test
+    void afterNullValueAscendingContinuesWithTheNullsThenEveryDate() {
+        Document criteria = new PageCursor(null, ID).after("createdAt", Sort.Direction.ASC).getCriteriaObject();
+
+        List<Document> branches = criteria.getList("$or", Document.class);
+        assertThat(branches).hasSize(2);
+        assertThat(branches.get(0).getList("$and", Document.class)).containsExactly(
+                new Document("createdAt", null),
+                new Document("_id", new Document("$gt", ID)));
+        assertThat(branches.get(1)).isEqualTo(new Document("createdAt", new Document("$ne", null)));
+    }
+}